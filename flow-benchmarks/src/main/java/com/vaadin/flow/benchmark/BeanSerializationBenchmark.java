@@ -0,0 +1,601 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.data.provider.BeanDataGenerator;
+import com.vaadin.flow.internal.JsonSerializer;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for serializing a page of grid rows with 50 columns using
+ * {@link JsonSerializer} and {@link BeanDataGenerator}.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    /**
+     * A grid row with 50 columns of mixed types.
+     */
+    public static class Row {
+        private String column0;
+        private int column1;
+        private double column2;
+        private boolean column3;
+        private String column4;
+        private int column5;
+        private double column6;
+        private boolean column7;
+        private String column8;
+        private int column9;
+        private double column10;
+        private boolean column11;
+        private String column12;
+        private int column13;
+        private double column14;
+        private boolean column15;
+        private String column16;
+        private int column17;
+        private double column18;
+        private boolean column19;
+        private String column20;
+        private int column21;
+        private double column22;
+        private boolean column23;
+        private String column24;
+        private int column25;
+        private double column26;
+        private boolean column27;
+        private String column28;
+        private int column29;
+        private double column30;
+        private boolean column31;
+        private String column32;
+        private int column33;
+        private double column34;
+        private boolean column35;
+        private String column36;
+        private int column37;
+        private double column38;
+        private boolean column39;
+        private String column40;
+        private int column41;
+        private double column42;
+        private boolean column43;
+        private String column44;
+        private int column45;
+        private double column46;
+        private boolean column47;
+        private String column48;
+        private int column49;
+
+        public String getColumn0() {
+            return column0;
+        }
+
+        public void setColumn0(String column0) {
+            this.column0 = column0;
+        }
+
+        public int getColumn1() {
+            return column1;
+        }
+
+        public void setColumn1(int column1) {
+            this.column1 = column1;
+        }
+
+        public double getColumn2() {
+            return column2;
+        }
+
+        public void setColumn2(double column2) {
+            this.column2 = column2;
+        }
+
+        public boolean isColumn3() {
+            return column3;
+        }
+
+        public void setColumn3(boolean column3) {
+            this.column3 = column3;
+        }
+
+        public String getColumn4() {
+            return column4;
+        }
+
+        public void setColumn4(String column4) {
+            this.column4 = column4;
+        }
+
+        public int getColumn5() {
+            return column5;
+        }
+
+        public void setColumn5(int column5) {
+            this.column5 = column5;
+        }
+
+        public double getColumn6() {
+            return column6;
+        }
+
+        public void setColumn6(double column6) {
+            this.column6 = column6;
+        }
+
+        public boolean isColumn7() {
+            return column7;
+        }
+
+        public void setColumn7(boolean column7) {
+            this.column7 = column7;
+        }
+
+        public String getColumn8() {
+            return column8;
+        }
+
+        public void setColumn8(String column8) {
+            this.column8 = column8;
+        }
+
+        public int getColumn9() {
+            return column9;
+        }
+
+        public void setColumn9(int column9) {
+            this.column9 = column9;
+        }
+
+        public double getColumn10() {
+            return column10;
+        }
+
+        public void setColumn10(double column10) {
+            this.column10 = column10;
+        }
+
+        public boolean isColumn11() {
+            return column11;
+        }
+
+        public void setColumn11(boolean column11) {
+            this.column11 = column11;
+        }
+
+        public String getColumn12() {
+            return column12;
+        }
+
+        public void setColumn12(String column12) {
+            this.column12 = column12;
+        }
+
+        public int getColumn13() {
+            return column13;
+        }
+
+        public void setColumn13(int column13) {
+            this.column13 = column13;
+        }
+
+        public double getColumn14() {
+            return column14;
+        }
+
+        public void setColumn14(double column14) {
+            this.column14 = column14;
+        }
+
+        public boolean isColumn15() {
+            return column15;
+        }
+
+        public void setColumn15(boolean column15) {
+            this.column15 = column15;
+        }
+
+        public String getColumn16() {
+            return column16;
+        }
+
+        public void setColumn16(String column16) {
+            this.column16 = column16;
+        }
+
+        public int getColumn17() {
+            return column17;
+        }
+
+        public void setColumn17(int column17) {
+            this.column17 = column17;
+        }
+
+        public double getColumn18() {
+            return column18;
+        }
+
+        public void setColumn18(double column18) {
+            this.column18 = column18;
+        }
+
+        public boolean isColumn19() {
+            return column19;
+        }
+
+        public void setColumn19(boolean column19) {
+            this.column19 = column19;
+        }
+
+        public String getColumn20() {
+            return column20;
+        }
+
+        public void setColumn20(String column20) {
+            this.column20 = column20;
+        }
+
+        public int getColumn21() {
+            return column21;
+        }
+
+        public void setColumn21(int column21) {
+            this.column21 = column21;
+        }
+
+        public double getColumn22() {
+            return column22;
+        }
+
+        public void setColumn22(double column22) {
+            this.column22 = column22;
+        }
+
+        public boolean isColumn23() {
+            return column23;
+        }
+
+        public void setColumn23(boolean column23) {
+            this.column23 = column23;
+        }
+
+        public String getColumn24() {
+            return column24;
+        }
+
+        public void setColumn24(String column24) {
+            this.column24 = column24;
+        }
+
+        public int getColumn25() {
+            return column25;
+        }
+
+        public void setColumn25(int column25) {
+            this.column25 = column25;
+        }
+
+        public double getColumn26() {
+            return column26;
+        }
+
+        public void setColumn26(double column26) {
+            this.column26 = column26;
+        }
+
+        public boolean isColumn27() {
+            return column27;
+        }
+
+        public void setColumn27(boolean column27) {
+            this.column27 = column27;
+        }
+
+        public String getColumn28() {
+            return column28;
+        }
+
+        public void setColumn28(String column28) {
+            this.column28 = column28;
+        }
+
+        public int getColumn29() {
+            return column29;
+        }
+
+        public void setColumn29(int column29) {
+            this.column29 = column29;
+        }
+
+        public double getColumn30() {
+            return column30;
+        }
+
+        public void setColumn30(double column30) {
+            this.column30 = column30;
+        }
+
+        public boolean isColumn31() {
+            return column31;
+        }
+
+        public void setColumn31(boolean column31) {
+            this.column31 = column31;
+        }
+
+        public String getColumn32() {
+            return column32;
+        }
+
+        public void setColumn32(String column32) {
+            this.column32 = column32;
+        }
+
+        public int getColumn33() {
+            return column33;
+        }
+
+        public void setColumn33(int column33) {
+            this.column33 = column33;
+        }
+
+        public double getColumn34() {
+            return column34;
+        }
+
+        public void setColumn34(double column34) {
+            this.column34 = column34;
+        }
+
+        public boolean isColumn35() {
+            return column35;
+        }
+
+        public void setColumn35(boolean column35) {
+            this.column35 = column35;
+        }
+
+        public String getColumn36() {
+            return column36;
+        }
+
+        public void setColumn36(String column36) {
+            this.column36 = column36;
+        }
+
+        public int getColumn37() {
+            return column37;
+        }
+
+        public void setColumn37(int column37) {
+            this.column37 = column37;
+        }
+
+        public double getColumn38() {
+            return column38;
+        }
+
+        public void setColumn38(double column38) {
+            this.column38 = column38;
+        }
+
+        public boolean isColumn39() {
+            return column39;
+        }
+
+        public void setColumn39(boolean column39) {
+            this.column39 = column39;
+        }
+
+        public String getColumn40() {
+            return column40;
+        }
+
+        public void setColumn40(String column40) {
+            this.column40 = column40;
+        }
+
+        public int getColumn41() {
+            return column41;
+        }
+
+        public void setColumn41(int column41) {
+            this.column41 = column41;
+        }
+
+        public double getColumn42() {
+            return column42;
+        }
+
+        public void setColumn42(double column42) {
+            this.column42 = column42;
+        }
+
+        public boolean isColumn43() {
+            return column43;
+        }
+
+        public void setColumn43(boolean column43) {
+            this.column43 = column43;
+        }
+
+        public String getColumn44() {
+            return column44;
+        }
+
+        public void setColumn44(String column44) {
+            this.column44 = column44;
+        }
+
+        public int getColumn45() {
+            return column45;
+        }
+
+        public void setColumn45(int column45) {
+            this.column45 = column45;
+        }
+
+        public double getColumn46() {
+            return column46;
+        }
+
+        public void setColumn46(double column46) {
+            this.column46 = column46;
+        }
+
+        public boolean isColumn47() {
+            return column47;
+        }
+
+        public void setColumn47(boolean column47) {
+            this.column47 = column47;
+        }
+
+        public String getColumn48() {
+            return column48;
+        }
+
+        public void setColumn48(String column48) {
+            this.column48 = column48;
+        }
+
+        public int getColumn49() {
+            return column49;
+        }
+
+        public void setColumn49(int column49) {
+            this.column49 = column49;
+        }
+    }
+
+    private final BeanDataGenerator<Row> dataGenerator = new BeanDataGenerator<>();
+
+    private List<Row> rows;
+    private JsonObject rowJson;
+
+    @Setup
+    public void setup() {
+        rows = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(BeanSerializationBenchmark::createRow)
+                .collect(Collectors.toList());
+        rowJson = (JsonObject) JsonSerializer.toJson(rows.get(0));
+    }
+
+    @Benchmark
+    public JsonValue toJson_page() {
+        return JsonSerializer.toJson(rows);
+    }
+
+    @Benchmark
+    public JsonObject generateData_page() {
+        JsonObject last = null;
+        for (Row row : rows) {
+            last = Json.createObject();
+            dataGenerator.generateData(row, last);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Row toObject_row() {
+        return JsonSerializer.toObject(Row.class, rowJson);
+    }
+
+    private static Row createRow(int index) {
+        Row row = new Row();
+        row.setColumn0("Cell " + index + "/0");
+        row.setColumn1(index * 1);
+        row.setColumn2(index / 3.0);
+        row.setColumn3(index % 4 == 0);
+        row.setColumn4("Cell " + index + "/4");
+        row.setColumn5(index * 5);
+        row.setColumn6(index / 7.0);
+        row.setColumn7(index % 8 == 0);
+        row.setColumn8("Cell " + index + "/8");
+        row.setColumn9(index * 9);
+        row.setColumn10(index / 11.0);
+        row.setColumn11(index % 12 == 0);
+        row.setColumn12("Cell " + index + "/12");
+        row.setColumn13(index * 13);
+        row.setColumn14(index / 15.0);
+        row.setColumn15(index % 16 == 0);
+        row.setColumn16("Cell " + index + "/16");
+        row.setColumn17(index * 17);
+        row.setColumn18(index / 19.0);
+        row.setColumn19(index % 20 == 0);
+        row.setColumn20("Cell " + index + "/20");
+        row.setColumn21(index * 21);
+        row.setColumn22(index / 23.0);
+        row.setColumn23(index % 24 == 0);
+        row.setColumn24("Cell " + index + "/24");
+        row.setColumn25(index * 25);
+        row.setColumn26(index / 27.0);
+        row.setColumn27(index % 28 == 0);
+        row.setColumn28("Cell " + index + "/28");
+        row.setColumn29(index * 29);
+        row.setColumn30(index / 31.0);
+        row.setColumn31(index % 32 == 0);
+        row.setColumn32("Cell " + index + "/32");
+        row.setColumn33(index * 33);
+        row.setColumn34(index / 35.0);
+        row.setColumn35(index % 36 == 0);
+        row.setColumn36("Cell " + index + "/36");
+        row.setColumn37(index * 37);
+        row.setColumn38(index / 39.0);
+        row.setColumn39(index % 40 == 0);
+        row.setColumn40("Cell " + index + "/40");
+        row.setColumn41(index * 41);
+        row.setColumn42(index / 43.0);
+        row.setColumn43(index % 44 == 0);
+        row.setColumn44("Cell " + index + "/44");
+        row.setColumn45(index * 45);
+        row.setColumn46(index / 47.0);
+        row.setColumn47(index % 48 == 0);
+        row.setColumn48("Cell " + index + "/48");
+        row.setColumn49(index * 49);
+        return row;
+    }
+}
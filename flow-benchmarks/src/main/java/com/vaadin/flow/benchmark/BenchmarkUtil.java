@@ -0,0 +1,102 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.server.MockVaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.tests.util.AlwaysLockedVaadinSession;
+
+/**
+ * Helpers for setting up the state used by the benchmarks.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class BenchmarkUtil {
+
+    /**
+     * The number of children of each element in trees created by
+     * {@link #createElementTree(UI, int)}.
+     */
+    public static final int FAN_OUT = 10;
+
+    private BenchmarkUtil() {
+        // Static helpers only
+    }
+
+    /**
+     * Creates a UI attached to a session which is locked by the current
+     * thread, with a service initialized like in a deployed application.
+     *
+     * @return the UI
+     */
+    public static UI createUI() {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        VaadinSession session = new AlwaysLockedVaadinSession(service);
+        VaadinSession.setCurrent(session);
+
+        UI ui = new UI();
+        ui.getInternals().setSession(session);
+        UI.setCurrent(ui);
+        return ui;
+    }
+
+    /**
+     * Appends a tree of <code>div</code> elements to the UI and clears the
+     * resulting changes, so that the tree is in the state it would have after
+     * being sent to the client. Every element has {@link #FAN_OUT} children
+     * except for the last level.
+     *
+     * @param ui
+     *            the UI to add the elements to
+     * @param size
+     *            the number of elements to create
+     * @return the created elements, in breadth first order
+     */
+    public static List<Element> createElementTree(UI ui, int size) {
+        List<Element> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Element element = new Element("div");
+            element.setAttribute("id", "e" + i);
+            element.setProperty("value", i);
+            Element parent = i < FAN_OUT ? ui.getElement()
+                    : elements.get(i / FAN_OUT - 1);
+            parent.appendChild(element);
+            elements.add(element);
+        }
+        clearChanges(ui);
+        return elements;
+    }
+
+    /**
+     * Runs pending before client response executions and discards all
+     * pending changes of the UI.
+     *
+     * @param ui
+     *            the UI to clear
+     */
+    public static void clearChanges(UI ui) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        ui.getInternals().getStateTree().collectChanges(change -> {
+        });
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.ArrayUpdater;
+import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.dom.Element;
+
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for flushing data from an in-memory data provider to the client
+ * when scrolling and when refreshing all data.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataCommunicatorBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "1000", "100000" })
+    private int itemCount;
+
+    private UI ui;
+    private DataCommunicator<String> dataCommunicator;
+    private int lastUpdateId = -1;
+    private int round;
+
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        Element element = new Element("div");
+        ui.getElement().appendChild(element);
+
+        ArrayUpdater.Update update = new ArrayUpdater.Update() {
+            @Override
+            public void clear(int start, int length) {
+                // Nothing to send in a benchmark
+            }
+
+            @Override
+            public void set(int start, List<JsonValue> items) {
+                // Nothing to send in a benchmark
+            }
+
+            @Override
+            public void commit(int updateId) {
+                lastUpdateId = updateId;
+            }
+        };
+        ArrayUpdater arrayUpdater = new ArrayUpdater() {
+            @Override
+            public Update startUpdate(int sizeChange) {
+                return update;
+            }
+
+            @Override
+            public void initialize() {
+                // Nothing to initialize in a benchmark
+            }
+        };
+
+        dataCommunicator = new DataCommunicator<>(
+                (item, json) -> json.put("name", item), arrayUpdater,
+                data -> {
+                }, element.getNode());
+        List<String> items = IntStream.range(0, itemCount)
+                .mapToObj(i -> "Item " + i).collect(Collectors.toList());
+        dataCommunicator.setDataProvider(DataProvider.ofCollection(items),
+                null);
+        dataCommunicator.setRequestedRange(0, PAGE_SIZE);
+        flush();
+    }
+
+    @Benchmark
+    public int flush_scroll() {
+        round++;
+        int start = (round * PAGE_SIZE) % (itemCount - PAGE_SIZE);
+        dataCommunicator.setRequestedRange(start, PAGE_SIZE);
+        flush();
+        return lastUpdateId;
+    }
+
+    @Benchmark
+    public int flush_reset() {
+        dataCommunicator.reset();
+        flush();
+        return lastUpdateId;
+    }
+
+    private void flush() {
+        BenchmarkUtil.clearChanges(ui);
+        dataCommunicator.confirmUpdate(lastUpdateId);
+    }
+}
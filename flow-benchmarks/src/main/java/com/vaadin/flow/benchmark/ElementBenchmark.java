@@ -0,0 +1,94 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+
+/**
+ * Benchmarks for writing properties and attributes of attached elements.
+ * Pending changes are cleared periodically so that the size of the change
+ * tracker stays realistic.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementBenchmark {
+
+    private static final int WRITES_PER_ROUND_TRIP = 1000;
+
+    @Param({ "1000", "10000", "100000" })
+    private int treeSize;
+
+    private UI ui;
+    private List<Element> elements;
+    private int round;
+
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        elements = BenchmarkUtil.createElementTree(ui, treeSize);
+    }
+
+    @Benchmark
+    public Element setProperty_string() {
+        return nextElement().setProperty("label", "label " + (round & 7));
+    }
+
+    @Benchmark
+    public Element setProperty_number() {
+        return nextElement().setProperty("value", round);
+    }
+
+    @Benchmark
+    public Element setAttribute() {
+        return nextElement().setAttribute("title", "title " + (round & 7));
+    }
+
+    @Benchmark
+    public double getProperty() {
+        return nextElement().getProperty("value", 0.0);
+    }
+
+    private Element nextElement() {
+        round++;
+        if (round % WRITES_PER_ROUND_TRIP == 0) {
+            BenchmarkUtil.clearChanges(ui);
+        }
+        return elements.get(round % treeSize);
+    }
+}
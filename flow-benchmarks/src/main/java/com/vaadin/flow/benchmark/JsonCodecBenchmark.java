@@ -0,0 +1,114 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.ConstantPoolKey;
+import com.vaadin.flow.internal.JsonCodec;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Benchmarks for encoding and decoding values with {@link JsonCodec} and for
+ * creating constant pool keys.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private Element element;
+    private JsonArray array;
+    private JsonObject constant;
+    private JsonValue encodedString;
+    private JsonValue encodedNumber;
+
+    @Setup
+    public void setup() {
+        UI ui = BenchmarkUtil.createUI();
+        element = BenchmarkUtil.createElementTree(ui, 1).get(0);
+
+        array = Json.createArray();
+        for (int i = 0; i < 100; i++) {
+            array.set(i, i);
+        }
+
+        constant = Json.createObject();
+        constant.put("click", "event.button");
+        constant.put("keydown", "event.key");
+
+        encodedString = Json.create("value");
+        encodedNumber = Json.create(42);
+    }
+
+    @Benchmark
+    public JsonValue encode_string() {
+        return JsonCodec.encodeWithTypeInfo("value");
+    }
+
+    @Benchmark
+    public JsonValue encode_number() {
+        return JsonCodec.encodeWithTypeInfo(Double.valueOf(42));
+    }
+
+    @Benchmark
+    public JsonValue encode_element() {
+        return JsonCodec.encodeWithTypeInfo(element);
+    }
+
+    @Benchmark
+    public JsonValue encode_array() {
+        return JsonCodec.encodeWithTypeInfo(array);
+    }
+
+    @Benchmark
+    public String decode_string() {
+        return JsonCodec.decodeAs(encodedString, String.class);
+    }
+
+    @Benchmark
+    public Integer decode_integer() {
+        return JsonCodec.decodeAs(encodedNumber, Integer.class);
+    }
+
+    @Benchmark
+    public ConstantPoolKey constantPoolKey() {
+        return new ConstantPoolKey(constant);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.NodeFeatureRegistry;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.communication.ServerRpcHandler;
+import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Benchmarks for handling messages from the client containing DOM events and
+ * property synchronizations for elements in a large tree.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerRpcHandlerBenchmark {
+
+    private static final int TREE_SIZE = 10000;
+
+    @Param({ "1", "100" })
+    private int invocationCount;
+
+    private UI ui;
+    private VaadinRequest request;
+    private ServerRpcHandler rpcHandler = new ServerRpcHandler();
+    private String eventInvocations;
+    private String syncInvocations;
+    private int round;
+
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        List<Element> elements = BenchmarkUtil.createElementTree(ui,
+                TREE_SIZE);
+
+        request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getService())
+                .thenReturn(ui.getSession().getService());
+
+        JsonArray events = Json.createArray();
+        JsonArray syncs = Json.createArray();
+        int propertyMapId = NodeFeatureRegistry
+                .getId(ElementPropertyMap.class);
+        for (int i = 0; i < invocationCount; i++) {
+            Element element = elements.get(i * (TREE_SIZE / invocationCount));
+            element.addEventListener("click", event -> {
+            });
+            element.addPropertyChangeListener("value", "change", event -> {
+            });
+
+            JsonObject event = Json.createObject();
+            event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+            event.put(JsonConstants.RPC_NODE, element.getNode().getId());
+            event.put(JsonConstants.RPC_EVENT_TYPE, "click");
+            events.set(i, event);
+
+            JsonObject sync = Json.createObject();
+            sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+            sync.put(JsonConstants.RPC_NODE, element.getNode().getId());
+            sync.put(JsonConstants.RPC_FEATURE, propertyMapId);
+            sync.put(JsonConstants.RPC_PROPERTY, "value");
+            sync.put(JsonConstants.RPC_PROPERTY_VALUE, "value " + i);
+            syncs.set(i, sync);
+        }
+        BenchmarkUtil.clearChanges(ui);
+
+        eventInvocations = events.toJson();
+        syncInvocations = syncs.toJson();
+    }
+
+    @Benchmark
+    public void handleRpc_events() throws Exception {
+        handleRpc(eventInvocations);
+    }
+
+    @Benchmark
+    public void handleRpc_propertySync() throws Exception {
+        handleRpc(syncInvocations);
+    }
+
+    private void handleRpc(String invocations) throws Exception {
+        int clientId = ui.getInternals().getLastProcessedClientToServerId()
+                + 1;
+        String message = "{\"" + ApplicationConstants.CSRF_TOKEN + "\":\""
+                + ui.getSession().getCsrfToken() + "\",\""
+                + ApplicationConstants.SERVER_SYNC_ID + "\":"
+                + ui.getInternals().getServerSyncId() + ",\""
+                + ApplicationConstants.CLIENT_TO_SERVER_ID + "\":" + clientId
+                + ",\"" + ApplicationConstants.RPC_INVOCATIONS + "\":"
+                + invocations + "}";
+        rpcHandler.handleRpc(ui, new StringReader(message), request);
+
+        round++;
+        if (round % 100 == 0) {
+            BenchmarkUtil.clearChanges(ui);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.StateNode;
+
+/**
+ * Measures the heap retained per {@link StateNode} in an attached element tree
+ * whose changes have been collected. The result is reported in the
+ * <code>bytesPerNode</code> secondary metric; the primary score is the time
+ * to build the tree.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class StateNodeMemoryBenchmark {
+
+    /**
+     * Reports the measured heap use per node.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long bytesPerNode;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerNode = 0;
+        }
+    }
+
+    @Param({ "10000", "50000" })
+    private int treeSize;
+
+    @Param({ "1", "5" })
+    private int propertiesPerNode;
+
+    private UI ui;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+    }
+
+    @Benchmark
+    public List<Element> createElementTree(HeapCounters counters) {
+        long usedBefore = getUsedHeap();
+
+        List<Element> elements = BenchmarkUtil.createElementTree(ui, treeSize);
+        for (Element element : elements) {
+            // The tree already has one property per node
+            for (int i = 1; i < propertiesPerNode; i++) {
+                element.setProperty("property" + i, i);
+            }
+        }
+        BenchmarkUtil.clearChanges(ui);
+
+        counters.bytesPerNode = (getUsedHeap() - usedBefore) / treeSize;
+        return elements;
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Collect until the used heap no longer shrinks
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
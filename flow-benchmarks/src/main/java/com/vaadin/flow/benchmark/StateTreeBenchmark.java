@@ -0,0 +1,97 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.StateTree;
+
+/**
+ * Benchmarks for collecting the changes of a {@link StateTree} with only a few
+ * or all of its nodes changed.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateTreeBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int treeSize;
+
+    private UI ui;
+    private StateTree stateTree;
+    private List<Element> elements;
+    private int round;
+
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        stateTree = ui.getInternals().getStateTree();
+        elements = BenchmarkUtil.createElementTree(ui, treeSize);
+    }
+
+    @Benchmark
+    public void collectChanges_noChanges(Blackhole blackhole) {
+        stateTree.collectChanges(blackhole::consume);
+    }
+
+    @Benchmark
+    public void collectChanges_oneNodeChanged(Blackhole blackhole) {
+        round++;
+        elements.get(round % treeSize).setProperty("value", round);
+        stateTree.collectChanges(blackhole::consume);
+    }
+
+    @Benchmark
+    public void collectChanges_onePercentChanged(Blackhole blackhole) {
+        round++;
+        for (int i = round % 100; i < treeSize; i += 100) {
+            elements.get(i).setProperty("value", round);
+        }
+        stateTree.collectChanges(blackhole::consume);
+    }
+
+    @Benchmark
+    public void collectChanges_allNodesChanged(Blackhole blackhole) {
+        round++;
+        for (Element element : elements) {
+            element.setProperty("value", round);
+        }
+        stateTree.collectChanges(blackhole::consume);
+    }
+}
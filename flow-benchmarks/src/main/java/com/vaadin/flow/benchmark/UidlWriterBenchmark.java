@@ -0,0 +1,95 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.server.communication.UidlWriter;
+
+import elemental.json.JsonObject;
+
+/**
+ * Benchmarks for creating UIDL responses, both for incremental updates and for
+ * resynchronizing the full state of a UI.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UidlWriterBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int treeSize;
+
+    private UI ui;
+    private List<Element> elements;
+    private UidlWriter uidlWriter = new UidlWriter();
+    private int round;
+
+    @Setup
+    public void setup() {
+        ui = BenchmarkUtil.createUI();
+        elements = BenchmarkUtil.createElementTree(ui, treeSize);
+    }
+
+    @Benchmark
+    public JsonObject createUidl_onePercentChanged() {
+        changeOnePercent();
+        return uidlWriter.createUidl(ui, false);
+    }
+
+    @Benchmark
+    public int writeUidl_onePercentChanged() throws IOException {
+        changeOnePercent();
+        StringWriter writer = new StringWriter();
+        uidlWriter.writeUidl(ui, false, writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public JsonObject createUidl_resync() {
+        return uidlWriter.createUidl(ui, false, true);
+    }
+
+    private void changeOnePercent() {
+        round++;
+        for (int i = round % 100; i < treeSize; i += 100) {
+            elements.get(i).setProperty("value", round);
+        }
+    }
+}
@@ -366,6 +366,12 @@ public class MessageHandler {
 
             JsonObject json = valueMap.cast();
 
+            if (isResynchronize(valueMap)) {
+                // The message contains the full state of the UI, which
+                // replaces the current state tree
+                registry.getStateTree().prepareForResync();
+            }
+
             if (json.hasKey("constants")) {
                 ConstantPool constantPool = registry.getConstantPool();
                 JsonObject constants = json.getObject("constants");
@@ -18,9 +18,12 @@ package com.vaadin.client.communication;
 import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.Console;
 import com.vaadin.client.Registry;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -56,6 +59,11 @@ public class ServerRpcQueue {
 
     /**
      * Adds an explicit RPC method invocation to the send queue.
+     * <p>
+     * A property sync invocation supersedes any earlier sync of the same
+     * property of the same node that is still queued, as long as only other
+     * property syncs have been queued after it. The superseded invocation is
+     * removed so that only the latest value is sent to the server.
      *
      * @param invocation
      *            RPC method invocation
@@ -66,9 +74,50 @@ public class ServerRpcQueue {
                     "Trying to invoke method on not yet started or stopped application");
             return;
         }
+        if (isMapSync(invocation)) {
+            removeSupersededMapSync((JsonObject) invocation);
+        }
         pendingInvocations.set(pendingInvocations.length(), invocation);
     }
 
+    /**
+     * Removes a queued sync of the same property as the given sync
+     * invocation. Only the trailing property syncs are checked, since
+     * reordering a sync past any other invocation could change what the
+     * server sees when handling that invocation.
+     */
+    private void removeSupersededMapSync(JsonObject sync) {
+        for (int i = pendingInvocations.length() - 1; i >= 0; i--) {
+            JsonValue queued = pendingInvocations.get(i);
+            if (!isMapSync(queued)) {
+                return;
+            }
+            if (isSameProperty((JsonObject) queued, sync)) {
+                pendingInvocations.remove(i);
+                return;
+            }
+        }
+    }
+
+    private static boolean isMapSync(JsonValue invocation) {
+        if (invocation == null || invocation.getType() != JsonType.OBJECT) {
+            return false;
+        }
+        JsonObject object = (JsonObject) invocation;
+        return object.hasKey(JsonConstants.RPC_TYPE)
+                && JsonConstants.RPC_TYPE_MAP_SYNC
+                        .equals(object.getString(JsonConstants.RPC_TYPE));
+    }
+
+    private static boolean isSameProperty(JsonObject sync1, JsonObject sync2) {
+        return sync1.getNumber(JsonConstants.RPC_NODE) == sync2
+                .getNumber(JsonConstants.RPC_NODE)
+                && sync1.getNumber(JsonConstants.RPC_FEATURE) == sync2
+                        .getNumber(JsonConstants.RPC_FEATURE)
+                && sync1.getString(JsonConstants.RPC_PROPERTY)
+                        .equals(sync2.getString(JsonConstants.RPC_PROPERTY));
+    }
+
     /**
      * Clears the queue.
      */
@@ -24,6 +24,10 @@ import elemental.json.JsonValue;
 
 /**
  * Map of constant values received from the server.
+ * <p>
+ * Values are never removed, since the server does not know which ids are
+ * still referenced by the client. The memory used by this pool grows with the
+ * number of distinct values sent during the lifetime of the UI.
  *
  * @author Vaadin Ltd
  * @since 1.0
@@ -33,6 +37,10 @@ public class ConstantPool {
 
     /**
      * Imports new constants into this pool.
+     * <p>
+     * The server sends constants again after a resynchronization, since the
+     * client might have missed a response. A constant that is already in this
+     * pool is then replaced with the identical value.
      *
      * @param json
      *            a JSON object mapping constant keys to constant values, not
@@ -42,7 +50,6 @@ public class ConstantPool {
         assert json != null;
 
         for (String key : json.keys()) {
-            assert !constants.has(key);
             JsonValue value = json.get(key);
 
             assert value != null && value.getType() != JsonType.NULL;
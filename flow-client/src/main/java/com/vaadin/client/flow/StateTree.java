@@ -22,6 +22,7 @@ import com.vaadin.client.flow.collection.JsArray;
 import com.vaadin.client.flow.collection.JsCollections;
 import com.vaadin.client.flow.collection.JsMap;
 import com.vaadin.client.flow.nodefeature.MapProperty;
+import com.vaadin.client.flow.nodefeature.NodeList;
 import com.vaadin.client.flow.nodefeature.NodeMap;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
@@ -124,6 +125,35 @@ public class StateTree {
         node.unregister();
     }
 
+    /**
+     * Prepares this tree for applying the full state of the UI sent by the
+     * server when resynchronizing. All nodes except the root node are
+     * unregistered and the features of the root node are emptied, so that the
+     * resynchronized state can be applied as if the tree was new.
+     */
+    public void prepareForResync() {
+        rootNode.forEachFeature((feature, featureId) -> {
+            if (feature instanceof NodeList) {
+                NodeList list = (NodeList) feature;
+                list.splice(0, list.length());
+            } else if (feature instanceof NodeMap) {
+                ((NodeMap) feature).forEachProperty(
+                        (property, name) -> property.removeValue());
+            }
+        });
+
+        JsArray<StateNode> nodes = JsCollections.array();
+        idToNode.forEach((node, id) -> {
+            if (node != rootNode) {
+                nodes.push(node);
+            }
+        });
+        nodes.forEach(node -> {
+            unregisterNode(node);
+            node.setParent(null);
+        });
+    }
+
     /**
      * Verifies that the provided node is not null and properly registered with
      * this state tree.
@@ -53,6 +53,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.client.Browser;
 import elemental.css.CSSStyleDeclaration;
+import elemental.dom.DocumentFragment;
 import elemental.dom.Element;
 import elemental.dom.Node;
 import elemental.events.Event;
@@ -1073,6 +1074,12 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             beforeRef = null;
         }
 
+        /*
+         * New child elements are collected into a document fragment which is
+         * inserted into the live DOM at once, instead of inserting each child
+         * separately.
+         */
+        DocumentFragment newChildNodes = null;
         for (int i = 0; i < add.length(); i++) {
             Object newChildObject = add.get(i);
             StateNode newChild = (StateNode) newChildObject;
@@ -1084,14 +1091,27 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 existingElementMap.remove(newChild.getId());
                 newChild.setDomNode(childNode);
                 context.binderContext.createAndBind(newChild);
+
+                insertChildNodes(context, newChildNodes, beforeRef);
+                newChildNodes = null;
+                beforeRef = DomApi.wrap(childNode).getNextSibling();
             } else {
                 childNode = context.binderContext.createAndBind(newChild);
 
-                DomApi.wrap(context.htmlNode).insertBefore(childNode,
-                        beforeRef);
+                if (newChildNodes == null) {
+                    newChildNodes = Browser.getDocument()
+                            .createDocumentFragment();
+                }
+                DomApi.wrap(newChildNodes).appendChild(childNode);
             }
+        }
+        insertChildNodes(context, newChildNodes, beforeRef);
+    }
 
-            beforeRef = DomApi.wrap(childNode).getNextSibling();
+    private static void insertChildNodes(BindingContext context,
+            DocumentFragment childNodes, Node beforeRef) {
+        if (childNodes != null) {
+            DomApi.wrap(context.htmlNode).insertBefore(childNodes, beforeRef);
         }
     }
 
@@ -46,6 +46,16 @@ public class Reactive {
 
     private static JsArray<FlushListener> postFlushListeners;
 
+    /*
+     * Index of the next listener to invoke. Invoked listeners are not removed
+     * from the start of the array one by one since that would make a flush of
+     * n listeners take O(n^2) time. Instead, the arrays are cleared once all
+     * their listeners have been invoked.
+     */
+    private static int flushListenerIndex;
+
+    private static int postFlushListenerIndex;
+
     private static JsSet<ReactiveValueChangeListener> eventCollectors;
 
     private static Computation currentComputation = null;
@@ -98,25 +108,37 @@ public class Reactive {
         while (hasFlushListeners() || hasPostFlushListeners()) {
             // Purge all flush listeners
             while (hasFlushListeners()) {
-                FlushListener oldestListener = flushListeners.remove(0);
+                FlushListener oldestListener = flushListeners
+                        .get(flushListenerIndex++);
                 oldestListener.flush();
             }
+            if (flushListeners != null) {
+                flushListeners.clear();
+            }
+            flushListenerIndex = 0;
 
             // Purge one post flush listener, then look if there are new flush
             // listeners to purge
             if (hasPostFlushListeners()) {
-                FlushListener oldestListener = postFlushListeners.remove(0);
+                FlushListener oldestListener = postFlushListeners
+                        .get(postFlushListenerIndex++);
                 oldestListener.flush();
+                if (!hasPostFlushListeners()) {
+                    postFlushListeners.clear();
+                    postFlushListenerIndex = 0;
+                }
             }
         }
     }
 
     private static boolean hasPostFlushListeners() {
-        return postFlushListeners != null && !postFlushListeners.isEmpty();
+        return postFlushListeners != null
+                && postFlushListenerIndex < postFlushListeners.length();
     }
 
     private static boolean hasFlushListeners() {
-        return flushListeners != null && !flushListeners.isEmpty();
+        return flushListeners != null
+                && flushListenerIndex < flushListeners.length();
     }
 
     /**
@@ -218,9 +240,11 @@ public class Reactive {
      */
     public static void reset() {
         flushListeners = null;
+        flushListenerIndex = 0;
         eventCollectors = null;
         currentComputation = null;
         postFlushListeners = null;
+        postFlushListenerIndex = 0;
     }
 
 }
@@ -24,6 +24,7 @@ import com.vaadin.client.PolymerUtils;
 import com.vaadin.client.WidgetUtil;
 import com.vaadin.client.flow.binding.Binder;
 import com.vaadin.client.flow.binding.SimpleElementBindingStrategy;
+import com.vaadin.client.flow.collection.JsArray;
 import com.vaadin.client.flow.collection.JsCollections;
 import com.vaadin.client.flow.nodefeature.MapProperty;
 import com.vaadin.client.flow.nodefeature.NodeList;
@@ -551,6 +552,30 @@ public class GwtBasicElementBinderTest extends GwtPropertyElementBinderTest {
         assertSame(child4, element.getChildNodes().item(1));
     }
 
+    public void testAddManyChildren_insertedInOrder() {
+        Binder.bind(node, element);
+
+        children.splice(0, 0, JsCollections.array(createChildNode("first"),
+                createChildNode("last")));
+        Reactive.flush();
+
+        JsArray<StateNode> added = JsCollections.array();
+        for (int i = 0; i < 5000; i++) {
+            added.push(createChildNode(String.valueOf(i)));
+        }
+        children.splice(1, 0, added);
+        Reactive.flush();
+
+        assertEquals(5002, element.getChildElementCount());
+        HTMLCollection childElements = element.getChildren();
+        assertEquals("first", ((Element) childElements.item(0)).getId());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(String.valueOf(i),
+                    ((Element) childElements.item(i + 1)).getId());
+        }
+        assertEquals("last", ((Element) childElements.item(5001)).getId());
+    }
+
     public void testAddBeforeSetTag() {
         Binder.bind(node, element);
 
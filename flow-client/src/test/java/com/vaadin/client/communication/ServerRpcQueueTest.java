@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class ServerRpcQueueTest {
+
+    private final Registry registry = new Registry() {
+        {
+            set(UILifecycle.class, new UILifecycle());
+        }
+    };
+
+    private final ServerRpcQueue queue = new ServerRpcQueue(registry);
+
+    @Before
+    public void setUp() {
+        registry.getUILifecycle().setState(UIState.RUNNING);
+    }
+
+    @Test
+    public void add_sameProperty_onlyLatestValueQueued() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(1, "value", "ab"));
+        queue.add(createSync(1, "value", "abc"));
+
+        JsonArray invocations = queue.toJson();
+        Assert.assertEquals(1, invocations.length());
+        Assert.assertEquals("abc", invocations.getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    @Test
+    public void add_otherProperties_latestValueMovedLast() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(2, "value", "b"));
+        queue.add(createSync(1, "checked", "c"));
+        queue.add(createSync(1, "value", "d"));
+
+        JsonArray invocations = queue.toJson();
+        Assert.assertEquals(3, invocations.length());
+        Assert.assertEquals("b", invocations.getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+        Assert.assertEquals("c", invocations.getObject(1)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+        Assert.assertEquals("d", invocations.getObject(2)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    @Test
+    public void add_eventBetweenSyncs_bothSyncsQueued() {
+        queue.add(createSync(1, "value", "a"));
+        JsonObject event = Json.createObject();
+        event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        event.put(JsonConstants.RPC_NODE, 1);
+        event.put(JsonConstants.RPC_EVENT_TYPE, "change");
+        queue.add(event);
+        queue.add(createSync(1, "value", "b"));
+
+        Assert.assertEquals(3, queue.size());
+    }
+
+    private static JsonObject createSync(int node, String property,
+            String value) {
+        JsonObject sync = Json.createObject();
+        sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        sync.put(JsonConstants.RPC_NODE, node);
+        sync.put(JsonConstants.RPC_FEATURE, 1);
+        sync.put(JsonConstants.RPC_PROPERTY, property);
+        sync.put(JsonConstants.RPC_PROPERTY_VALUE, value);
+        return sync;
+    }
+}
@@ -326,4 +326,23 @@ public class StateTreeTest {
 
         Assert.assertFalse(tree.isActive(stateNode));
     }
+
+    @Test
+    public void prepareForResync_nodesUnregisteredAndRootEmptied() {
+        tree.registerNode(node);
+        StateNode root = tree.getRootNode();
+        root.getList(NodeFeatures.ELEMENT_CHILDREN).add(0, node);
+        root.getMap(NodeFeatures.ELEMENT_PROPERTIES).getProperty("foo")
+                .setValue("bar");
+
+        tree.prepareForResync();
+
+        Assert.assertNull(tree.getNode(node.getId()));
+        Assert.assertTrue(node.isUnregistered());
+        Assert.assertSame(root, tree.getNode(root.getId()));
+        Assert.assertEquals(0,
+                root.getList(NodeFeatures.ELEMENT_CHILDREN).length());
+        Assert.assertFalse(root.getMap(NodeFeatures.ELEMENT_PROPERTIES)
+                .getProperty("foo").hasValue());
+    }
 }
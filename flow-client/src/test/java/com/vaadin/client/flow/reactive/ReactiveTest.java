@@ -62,6 +62,43 @@ public class ReactiveTest {
         Assert.assertEquals("Listener is not run again", 1, count.get());
     }
 
+    @Test
+    public void manyFlushListeners_runInOrder() {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            int index = i;
+            Reactive.addFlushListener(() -> order.add(Integer.valueOf(index)));
+        }
+
+        Reactive.flush();
+
+        Assert.assertEquals(10000, order.size());
+        for (int i = 0; i < order.size(); i++) {
+            Assert.assertEquals(i, order.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void flushListenerThrows_remainingRunOnNextFlush() {
+        Reactive.addFlushListener(count::incrementAndGet);
+        Reactive.addFlushListener(() -> {
+            throw new IllegalStateException();
+        });
+        Reactive.addFlushListener(count::incrementAndGet);
+
+        try {
+            Reactive.flush();
+            Assert.fail("Exception should be thrown from the flush");
+        } catch (IllegalStateException expected) {
+            // Expected
+        }
+        Assert.assertEquals(1, count.get());
+
+        Reactive.flush();
+
+        Assert.assertEquals(2, count.get());
+    }
+
     @Test
     public void testCollectEvents() {
         TestReactiveEventRouter router = new TestReactiveEventRouter();
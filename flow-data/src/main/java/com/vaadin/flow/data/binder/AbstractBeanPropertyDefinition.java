@@ -16,6 +16,15 @@
 package com.vaadin.flow.data.binder;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.shared.util.SharedUtil;
@@ -38,6 +47,14 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     private final BeanPropertySet<T> propertySet;
     private final Class<?> propertyHolderType;
 
+    /*
+     * Accessors generated from the descriptor methods on first use. Not
+     * serialized, since property definitions are serialized through
+     * writeReplace and looked up from the property set cache.
+     */
+    private transient Function<Object, Object> reader;
+    private transient BiConsumer<Object, Object> writer;
+
     /**
      * Constructor for setting the immutable descriptor, property set and
      * property holder type used by this instance.
@@ -98,4 +115,125 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     public Class<?> getPropertyHolderType() {
         return propertyHolderType;
     }
+
+    /**
+     * Reads the value of this property from the given property holder using
+     * the read method of the descriptor.
+     *
+     * @param holder
+     *            the object holding the property
+     * @return the property value
+     */
+    Object readValue(Object holder) {
+        if (reader == null) {
+            reader = createReader(descriptor.getReadMethod());
+        }
+        return reader.apply(holder);
+    }
+
+    /**
+     * Writes the value of this property to the given property holder using the
+     * write method of the descriptor.
+     *
+     * @param holder
+     *            the object holding the property
+     * @param value
+     *            the value to set
+     */
+    void writeValue(Object holder, Object value) {
+        if (writer == null) {
+            writer = createWriter(descriptor.getWriteMethod());
+        }
+        writer.accept(holder, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createReader(Method method) {
+        MethodHandle handle = unreflectIfVisible(method);
+        if (handle != null) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle, handle.type().wrap());
+                return (Function<Object, Object>) site.getTarget()
+                        .invokeExact();
+            } catch (Throwable e) {
+                // Fall back to reflection below
+            }
+        }
+        return holder -> invokeWrapExceptions(method, holder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createWriter(Method method) {
+        MethodHandle handle = unreflectIfVisible(method);
+        if (handle != null) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                CallSite site = LambdaMetafactory.metafactory(lookup,
+                        "accept", MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class,
+                                Object.class),
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) site.getTarget()
+                        .invokeExact();
+            } catch (Throwable e) {
+                // Fall back to reflection below
+            }
+        }
+        return (holder, value) -> invokeWrapExceptions(method, holder, value);
+    }
+
+    /**
+     * Gets a method handle for the given method if a lambda can be generated
+     * for it, i.e. if the method is accessible and all the types in its
+     * signature can be loaded by the class loader of this class. Otherwise,
+     * e.g. when the bean classes are loaded by a child class loader, returns
+     * <code>null</code>.
+     */
+    private static MethodHandle unreflectIfVisible(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            MethodType type = handle.type();
+            if (!isVisible(type.returnType())) {
+                return null;
+            }
+            for (Class<?> parameterType : type.parameterArray()) {
+                if (!isVisible(parameterType)) {
+                    return null;
+                }
+            }
+            return handle;
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false,
+                    AbstractBeanPropertyDefinition.class
+                            .getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Object invokeWrapExceptions(Method method, Object target,
+            Object... parameters) {
+        try {
+            return method.invoke(target, parameters);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +26,13 @@ import com.vaadin.flow.dom.Element;
 /**
  * Abstract class used as base for DataGenerators that need to manage the
  * lifecycle of components, according to what items are requested or destroyed.
+ * <p>
+ * When {@link #getComponentPoolSize()} is greater than zero, components of
+ * destroyed items are kept in the container and reused for new items through
+ * {@link #updateComponent(Component, Object)}, instead of being removed and
+ * created again. All components, including the kept ones, are removed from
+ * the container when all data is destroyed, e.g. when the generator is
+ * removed.
  * 
  * 
  * @author Vaadin Ltd
@@ -36,6 +45,7 @@ public abstract class AbstractComponentDataGenerator<T>
         implements DataGenerator<T> {
 
     private final Map<String, Component> renderedComponents = new HashMap<>();
+    private final Deque<Component> componentPool = new ArrayDeque<>();
 
     @Override
     public void refreshData(T item) {
@@ -58,7 +68,7 @@ public abstract class AbstractComponentDataGenerator<T>
         String itemKey = getItemKey(item);
         Component renderedComponent = renderedComponents.remove(itemKey);
         if (renderedComponent != null) {
-            renderedComponent.getElement().removeFromParent();
+            passivateComponent(renderedComponent);
         }
     }
 
@@ -67,6 +77,58 @@ public abstract class AbstractComponentDataGenerator<T>
         renderedComponents.values().forEach(
                 component -> component.getElement().removeFromParent());
         renderedComponents.clear();
+        trimComponentPool(0);
+    }
+
+    /**
+     * Gets the maximum number of components of destroyed items that are kept
+     * for rendering other items. By default, no components are kept.
+     *
+     * @return the maximum number of components to keep for reuse,
+     *         <code>0</code> if components are not reused
+     */
+    protected int getComponentPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Gets a component for the provided item, reusing a component of a
+     * destroyed item if there is one available. A reused component is updated
+     * using {@link #updateComponent(Component, Object)}, otherwise a new
+     * component is created using {@link #createComponent(Object)}.
+     *
+     * @param item
+     *            the data item, possibly <code>null</code>
+     * @return a {@link Component} which represents the provided item
+     */
+    protected Component createOrReuseComponent(T item) {
+        trimComponentPool(getComponentPoolSize());
+        Component pooledComponent = componentPool.poll();
+        if (pooledComponent == null) {
+            return createComponent(item);
+        }
+        Component component = updateComponent(pooledComponent, item);
+        if (component != pooledComponent) {
+            pooledComponent.getElement().removeFromParent();
+        }
+        return component;
+    }
+
+    private void passivateComponent(Component component) {
+        trimComponentPool(getComponentPoolSize());
+        Element element = component.getElement();
+        if (componentPool.size() < getComponentPoolSize()
+                && element.getParent() != null) {
+            componentPool.push(component);
+        } else {
+            element.removeFromParent();
+        }
+    }
+
+    private void trimComponentPool(int maxSize) {
+        while (componentPool.size() > maxSize) {
+            componentPool.poll().getElement().removeFromParent();
+        }
     }
 
     /**
@@ -125,7 +187,9 @@ public abstract class AbstractComponentDataGenerator<T>
             Component component) {
 
         Element element = component.getElement();
-        getContainer().appendChild(element);
+        if (!getContainer().equals(element.getParent())) {
+            getContainer().appendChild(element);
+        }
         renderedComponents.put(itemKey, component);
     }
 
@@ -44,6 +44,9 @@ public class BeanDataGenerator<T> implements DataGenerator<T> {
 
     @Override
     public void generateData(T item, JsonObject data) {
+        if (JsonSerializer.writeBeanProperties(item, data)) {
+            return;
+        }
         JsonValue value = JsonSerializer.toJson(item);
         if (value instanceof JsonObject) {
             JsonObject object = (JsonObject) value;
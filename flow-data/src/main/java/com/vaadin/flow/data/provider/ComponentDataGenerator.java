@@ -76,7 +76,7 @@ public class ComponentDataGenerator<T>
         if (oldRenderedComponent != null) {
             nodeId = oldRenderedComponent.getElement().getNode().getId();
         } else {
-            Component renderedComponent = createComponent(item);
+            Component renderedComponent = createOrReuseComponent(item);
             registerRenderedComponent(itemKey, renderedComponent);
 
             nodeId = renderedComponent.getElement().getNode().getId();
@@ -95,6 +95,11 @@ public class ComponentDataGenerator<T>
         return componentRenderer.updateComponent(currentComponent, item);
     }
 
+    @Override
+    protected int getComponentPoolSize() {
+        return componentRenderer.getComponentPoolSize();
+    }
+
     @Override
     protected String getItemKey(T item) {
         if (keyMapper == null) {
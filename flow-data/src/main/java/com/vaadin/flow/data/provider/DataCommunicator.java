@@ -24,6 +24,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -31,14 +33,18 @@ import java.util.stream.Stream;
 
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.data.provider.ArrayUpdater.Update;
 import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.function.SerializableComparator;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.ExecutionContext;
 import com.vaadin.flow.internal.JsonUtils;
+import com.vaadin.flow.internal.NodeOwner;
 import com.vaadin.flow.internal.Range;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.shared.Registration;
 
 import elemental.json.Json;
@@ -101,6 +107,36 @@ public class DataCommunicator<T> implements Serializable {
     private SerializableConsumer<ExecutionContext> flushRequest;
     private SerializableConsumer<ExecutionContext> flushUpdatedDataRequest;
 
+    // Executor for loading data without holding the session lock, or null
+    private transient Executor asyncExecutor;
+    private int prefetchPageCount = 1;
+
+    // Incremented whenever asynchronously loaded data becomes outdated
+    private int loadGeneration;
+    private transient LoadedData<T> loadedData;
+    private transient LoadedData<T> pendingLoad;
+
+    /**
+     * Items and size loaded from the data provider for some range, and the
+     * load generation they are valid for.
+     */
+    private static class LoadedData<T> {
+        private final int generation;
+        private final Range range;
+        private int size;
+        private List<T> items;
+
+        private LoadedData(int generation, Range range) {
+            this.generation = generation;
+            this.range = range;
+        }
+
+        private boolean covers(Range requested) {
+            Range available = requested.restrictTo(Range.withLength(0, size));
+            return available.isEmpty() || available.isSubsetOf(range);
+        }
+    }
+
     private static class SizeVerifier<T> implements Consumer<T>, Serializable {
 
         private int size;
@@ -173,6 +209,8 @@ public class DataCommunicator<T> implements Serializable {
         resendEntireRange = true;
         dataGenerator.destroyAllData();
         updatedData.clear();
+        loadGeneration++;
+        loadedData = null;
         requestFlush();
     }
 
@@ -325,6 +363,78 @@ public class DataCommunicator<T> implements Serializable {
         return Collections.unmodifiableList(backEndSorting);
     }
 
+    /**
+     * Sets an executor for loading data without holding the session lock.
+     * <p>
+     * When an executor is set and the data provider is not in-memory, the size
+     * and the items requested by the client are queried concurrently on the
+     * executor instead of during the response to the client. The loaded data
+     * is applied to the client using {@link UI#access(com.vaadin.flow.server.Command)}
+     * once both queries have completed, so server push or polling should be
+     * enabled for the data to be shown without waiting for the next request.
+     * The size is only queried again after {@link #reset()}, and the items of
+     * {@link #setPrefetchPageCount(int) the following pages} are loaded
+     * together with the requested items.
+     * <p>
+     * The queries are created with the current filter and sorting before they
+     * are run on the executor, so {@link #getDataProviderSize()} and
+     * {@link #fetchFromProvider(int, int)} are not used when loading
+     * asynchronously. The data provider is called without holding the session
+     * lock, so {@link UI#getCurrent()} and
+     * {@link com.vaadin.flow.server.VaadinSession#getCurrent()} are not
+     * available in its callbacks.
+     * <p>
+     * The executor is not serialized with this data communicator.
+     *
+     * @param executor
+     *            the executor to use, or <code>null</code> to load data
+     *            synchronously
+     */
+    public void setAsyncExecutor(Executor executor) {
+        asyncExecutor = executor;
+        reset();
+    }
+
+    /**
+     * Gets the executor used for loading data without holding the session
+     * lock.
+     *
+     * @return the executor, or <code>null</code> if data is loaded
+     *         synchronously
+     * @see #setAsyncExecutor(Executor)
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the number of pages loaded after the requested range when loading
+     * data asynchronously. A page has as many items as the range requested by
+     * the client. The default is <code>1</code>.
+     *
+     * @param prefetchPageCount
+     *            the number of pages to load in advance, not negative
+     * @see #setAsyncExecutor(Executor)
+     */
+    public void setPrefetchPageCount(int prefetchPageCount) {
+        if (prefetchPageCount < 0) {
+            throw new IllegalArgumentException(
+                    "Prefetch page count must not be negative, was "
+                            + prefetchPageCount);
+        }
+        this.prefetchPageCount = prefetchPageCount;
+    }
+
+    /**
+     * Gets the number of pages loaded after the requested range when loading
+     * data asynchronously.
+     *
+     * @return the number of pages to load in advance
+     */
+    public int getPrefetchPageCount() {
+        return prefetchPageCount;
+    }
+
     /**
      * Getter method for finding the size of DataProvider. Can be overridden by
      * a subclass that uses a specific type of DataProvider and/or query.
@@ -355,16 +465,26 @@ public class DataCommunicator<T> implements Serializable {
      * @return the list of items in given range
      *
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     protected Stream<T> fetchFromProvider(int offset, int limit) {
-        QueryTrace query = new QueryTrace(offset, limit, backEndSorting,
+        return fetchFromProvider(getDataProvider(), createQuery(offset, limit),
+                limit);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private QueryTrace createQuery(int offset, int limit) {
+        return new QueryTrace(offset, limit, new ArrayList<>(backEndSorting),
                 inMemorySorting, filter);
-        Stream<T> stream = getDataProvider().fetch(query);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <T> Stream<T> fetchFromProvider(DataProvider dataProvider,
+            QueryTrace query, int limit) {
+        Stream<T> stream = dataProvider.fetch(query);
         if (stream.isParallel()) {
             LoggerFactory.getLogger(DataCommunicator.class)
                     .debug("Data provider {} has returned "
                             + "parallel stream on 'fetch' call",
-                            getDataProvider().getClass());
+                            dataProvider.getClass());
             stream = stream.collect(Collectors.toList()).stream();
             assert !stream.isParallel();
         }
@@ -382,7 +502,7 @@ public class DataCommunicator<T> implements Serializable {
         return stream;
     }
 
-    private String getInvalidContractMessage(String method) {
+    private static String getInvalidContractMessage(String method) {
         return String.format("The data provider hasn't ever called %s() "
                 + "method on the provided query. "
                 + "It means that the the data provider breaks the contract "
@@ -438,6 +558,11 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     private void flush() {
+        if (isLoadingAsynchronously() && !ensureLoaded()) {
+            // Flushed again when the data has been loaded
+            return;
+        }
+
         Set<String> oldActive = new HashSet<>(activeKeyOrder);
 
         Range effectiveRequested;
@@ -446,7 +571,7 @@ public class DataCommunicator<T> implements Serializable {
 
         // Phase 1: Find all items that the client should have
         if (resendEntireRange) {
-            assumedSize = getDataProviderSize();
+            assumedSize = getSize();
         }
         effectiveRequested = requestedRange
                 .restrictTo(Range.withLength(0, assumedSize));
@@ -460,7 +585,7 @@ public class DataCommunicator<T> implements Serializable {
         // If the returned stream from the DataProvider is smaller than it
         // should, a new query for the actual size needs to be done
         if (activation.isSizeRecheckNeeded()) {
-            assumedSize = getDataProviderSize();
+            assumedSize = getSize();
             effectiveRequested = requestedRange
                     .restrictTo(Range.withLength(0, assumedSize));
         }
@@ -635,7 +760,7 @@ public class DataCommunicator<T> implements Serializable {
 
         // XXX Explicitly refresh anything that is updated
         List<String> activeKeys = new ArrayList<>(range.length());
-        fetchFromProvider(range.getStart(), range.length()).forEach(bean -> {
+        fetch(range.getStart(), range.length()).forEach(bean -> {
             boolean mapperHasKey = keyMapper.has(bean);
             String key = keyMapper.key(bean);
             if (mapperHasKey) {
@@ -650,6 +775,121 @@ public class DataCommunicator<T> implements Serializable {
         return new Activation(activeKeys, needsSizeRecheck);
     }
 
+    private boolean isLoadingAsynchronously() {
+        return asyncExecutor != null && !getDataProvider().isInMemory();
+    }
+
+    private int getSize() {
+        if (isLoadingAsynchronously()) {
+            return loadedData.size;
+        }
+        return getDataProviderSize();
+    }
+
+    private Stream<T> fetch(int offset, int limit) {
+        if (isLoadingAsynchronously()) {
+            List<T> items = loadedData.items;
+            int start = offset - loadedData.range.getStart();
+            assert start >= 0 : "Items before the loaded range were requested";
+            return items.subList(Math.min(start, items.size()),
+                    Math.min(start + limit, items.size())).stream();
+        }
+        return fetchFromProvider(offset, limit);
+    }
+
+    /**
+     * Checks whether the items requested by the client have been loaded, and
+     * starts loading them otherwise.
+     *
+     * @return <code>true</code> if the requested items have been loaded
+     */
+    private boolean ensureLoaded() {
+        if (loadedData != null && loadedData.generation == loadGeneration
+                && loadedData.covers(requestedRange)) {
+            return true;
+        }
+        if (pendingLoad != null && pendingLoad.generation == loadGeneration
+                && requestedRange.isSubsetOf(pendingLoad.range)) {
+            return false;
+        }
+
+        NodeOwner owner = stateNode.getOwner();
+        if (owner instanceof StateTree) {
+            startLoad(((StateTree) owner).getUI());
+        }
+        return false;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void startLoad(UI ui) {
+        int pageLength = requestedRange.length();
+        Range range = Range.withLength(requestedRange.getStart(),
+                pageLength + pageLength * prefetchPageCount);
+        LoadedData<T> load = new LoadedData<>(loadGeneration, range);
+        pendingLoad = load;
+
+        // The query state is only read here while the session is locked
+        DataProvider<T, ?> provider = getDataProvider();
+        QueryTrace<T, ?> fetchQuery = createQuery(range.getStart(),
+                range.length());
+
+        CompletableFuture<Integer> size;
+        if (loadedData != null && loadedData.generation == loadGeneration) {
+            size = CompletableFuture
+                    .completedFuture(Integer.valueOf(loadedData.size));
+        } else {
+            Query sizeQuery = new Query(filter);
+            size = CompletableFuture.supplyAsync(
+                    () -> Integer.valueOf(provider.size(sizeQuery)),
+                    asyncExecutor);
+        }
+        CompletableFuture<List<T>> items = CompletableFuture.supplyAsync(
+                () -> DataCommunicator.<T> fetchFromProvider(provider,
+                        fetchQuery, range.length())
+                        .collect(Collectors.toList()),
+                asyncExecutor);
+
+        size.thenCombine(items, (loadedSize, loadedItems) -> {
+            load.items = loadedItems;
+            int loadedEnd = range.getStart() + loadedItems.size();
+            if (loadedItems.isEmpty()) {
+                // The range is past the end, which is at most its start
+                load.size = Math.min(loadedSize.intValue(), loadedEnd);
+            } else if (loadedItems.size() < range.length()) {
+                // Trust the items if there are fewer than requested
+                load.size = loadedEnd;
+            } else {
+                load.size = Math.max(loadedSize.intValue(), loadedEnd);
+            }
+            return load;
+        }).whenComplete((result, error) -> applyLoad(ui, load, error));
+    }
+
+    private void applyLoad(UI ui, LoadedData<T> load, Throwable error) {
+        try {
+            ui.access(() -> {
+                if (pendingLoad != load) {
+                    // Superseded by a load that is still pending
+                    return;
+                }
+                pendingLoad = null;
+                if (load.generation != loadGeneration) {
+                    // Outdated, a new load is started by the next flush
+                    return;
+                }
+                if (error != null) {
+                    LoggerFactory.getLogger(DataCommunicator.class)
+                            .error("Loading data asynchronously failed", error);
+                    return;
+                }
+                loadedData = load;
+                requestFlush();
+            });
+        } catch (UIDetachedException e) {
+            // Nothing to apply the data to
+        }
+    }
+
     private JsonValue generateJson(T item) {
         JsonObject json = Json.createObject();
         json.put("key", getKeyMapper().key(item));
@@ -15,10 +15,16 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.function.SerializableComparator;
@@ -26,6 +32,12 @@ import com.vaadin.flow.function.SerializablePredicate;
 
 /**
  * {@link DataProvider} wrapper for {@link Collection}s.
+ * <p>
+ * When items are filtered or sorted, the filtered and sorted items of the
+ * latest query are cached so that fetching further pages with the same filter
+ * and sorting does not process the whole collection again. The cache is
+ * cleared by {@link #refreshAll()} and {@link #refreshItem(Object)}, which
+ * should be called whenever the backing collection or its items are changed.
  *
  * @param <T>
  *            data type
@@ -34,12 +46,49 @@ public class ListDataProvider<T>
         extends AbstractDataProvider<T, SerializablePredicate<T>>
         implements InMemoryDataProvider<T> {
 
+    /**
+     * The number of items above which items are sorted using
+     * {@link Arrays#parallelSort(Object[], Comparator)}.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 100000;
+
+    /**
+     * The filtered and possibly sorted items for a query filter and in-memory
+     * sorting, compared by identity.
+     */
+    private static class CachedItems<T> implements Serializable {
+        private final SerializablePredicate<T> filter;
+        private final Comparator<T> sorting;
+        private final boolean sorted;
+        private final int backendSize;
+        private final List<T> items;
+
+        private CachedItems(SerializablePredicate<T> filter,
+                Comparator<T> sorting, boolean sorted, int backendSize,
+                List<T> items) {
+            this.filter = filter;
+            this.sorting = sorting;
+            this.sorted = sorted;
+            this.backendSize = backendSize;
+            this.items = items;
+        }
+
+        private boolean isFilteredBy(SerializablePredicate<T> queryFilter,
+                int currentBackendSize) {
+            return filter == queryFilter && backendSize == currentBackendSize;
+        }
+    }
+
     private SerializableComparator<T> sortOrder = null;
 
     private SerializablePredicate<T> filter;
 
     private final Collection<T> backend;
 
+    private transient CachedItems<T> cachedItems;
+
+    private transient int cacheGeneration;
+
     /**
      * Constructs a new ListDataProvider.
      * <p>
@@ -67,23 +116,106 @@ public class ListDataProvider<T>
 
     @Override
     public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
-        Stream<T> stream = getFilteredStream(query);
-
         Optional<Comparator<T>> comparing = Stream
                 .of(query.getInMemorySorting(), sortOrder)
                 .filter(Objects::nonNull)
                 .reduce((c1, c2) -> c1.thenComparing(c2));
 
-        if (comparing.isPresent()) {
-            stream = stream.sorted(comparing.get());
+        if (!comparing.isPresent() && !isFiltered(query)) {
+            return backend.stream().skip(query.getOffset())
+                    .limit(query.getLimit());
         }
 
-        return stream.skip(query.getOffset()).limit(query.getLimit());
+        List<T> items = getItems(query, comparing.orElse(null), true);
+        int from = Math.min(query.getOffset(), items.size());
+        int to = (int) Math.min((long) from + query.getLimit(), items.size());
+        return items.subList(from, to).stream();
     }
 
     @Override
     public int size(Query<T, SerializablePredicate<T>> query) {
-        return (int) getFilteredStream(query).count();
+        if (!isFiltered(query)) {
+            return backend.size();
+        }
+        return getItems(query, null, false).size();
+    }
+
+    @Override
+    public void refreshAll() {
+        clearCache();
+        super.refreshAll();
+    }
+
+    @Override
+    public void refreshItem(T item) {
+        clearCache();
+        super.refreshItem(item);
+    }
+
+    private boolean isFiltered(Query<T, SerializablePredicate<T>> query) {
+        return filter != null || query.getFilter().isPresent();
+    }
+
+    /**
+     * Gets the filtered items for a query, sorted with the given comparator if
+     * sorting is requested. The result of the previous call is reused if it
+     * was made with the same query filter and, if sorting is requested, the
+     * same query sorting.
+     */
+    private List<T> getItems(Query<T, SerializablePredicate<T>> query,
+            Comparator<T> comparator, boolean sort) {
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        Comparator<T> querySorting = query.getInMemorySorting();
+        int backendSize = backend.size();
+
+        int generation;
+        CachedItems<T> cached;
+        synchronized (this) {
+            generation = cacheGeneration;
+            cached = cachedItems;
+        }
+
+        List<T> filtered;
+        if (cached != null && cached.isFilteredBy(queryFilter, backendSize)) {
+            if (!sort || (cached.sorted && cached.sorting == querySorting)) {
+                return cached.items;
+            }
+            filtered = cached.items;
+        } else {
+            filtered = getFilteredStream(query).collect(Collectors.toList());
+        }
+
+        List<T> items = filtered;
+        if (sort && comparator != null) {
+            items = sort(filtered, comparator);
+        }
+        items = Collections.unmodifiableList(items);
+
+        synchronized (this) {
+            if (generation == cacheGeneration) {
+                cachedItems = new CachedItems<>(queryFilter, querySorting,
+                        sort, backendSize, items);
+            }
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> sort(List<T> items,
+            Comparator<T> comparator) {
+        if (items.size() > PARALLEL_SORT_THRESHOLD) {
+            T[] array = (T[]) items.toArray();
+            Arrays.parallelSort(array, comparator);
+            return Arrays.asList(array);
+        }
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private synchronized void clearCache() {
+        cachedItems = null;
+        cacheGeneration++;
     }
 
     private Stream<T> getFilteredStream(
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.data.provider.CompositeDataGenerator;
@@ -477,6 +478,22 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return mapper.getRootSize();
     }
 
+    /**
+     * Not supported, since the hierarchy mapper keeps track of expanded items
+     * while the session is locked.
+     *
+     * @throws UnsupportedOperationException
+     *             if the executor is not <code>null</code>
+     */
+    @Override
+    public void setAsyncExecutor(Executor executor) {
+        if (executor != null) {
+            throw new UnsupportedOperationException(
+                    "Hierarchical data cannot be loaded asynchronously");
+        }
+        super.setAsyncExecutor(executor);
+    }
+
     @Override
     public void setBackEndSorting(List<QuerySortOrder> sortOrder) {
         if (mapper != null) {
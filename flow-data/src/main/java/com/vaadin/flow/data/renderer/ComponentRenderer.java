@@ -54,6 +54,7 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
     private SerializableBiFunction<Component, SOURCE, Component> componentUpdateFunction;
     private SerializableBiConsumer<COMPONENT, SOURCE> itemConsumer;
     private String componentRendererTag = "flow-component-renderer";
+    private int componentPoolSize;
 
     /**
      * Creates a new ComponentRenderer that uses the componentSupplier to
@@ -183,6 +184,48 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         this.componentRendererTag = componentRendererTag;
     }
 
+    /**
+     * Sets the maximum number of rendered components that are kept for reuse
+     * when their items are no longer shown, e.g. when scrolling a grid. By
+     * default, the components are discarded and new ones are created for the
+     * items that are shown next.
+     * <p>
+     * A reused component is passed to
+     * {@link #updateComponent(Component, Object)} together with the new item,
+     * so reuse is only useful if a component update function is given using
+     * {@link #ComponentRenderer(SerializableFunction, SerializableBiFunction)}
+     * and the function returns the same component instance. Reused
+     * components stay attached, so the state tree nodes and the client side
+     * elements of the components are kept as well.
+     * <p>
+     * Kept components are removed when all data of a rendering is destroyed,
+     * e.g. when the data is reset or the rendering is removed. If the size is
+     * lowered, the excess components are removed the next time a rendering
+     * creates or destroys a component.
+     *
+     * @param componentPoolSize
+     *            the maximum number of components to keep for reuse per
+     *            rendering, or <code>0</code> to disable reuse
+     */
+    public void setComponentPoolSize(int componentPoolSize) {
+        if (componentPoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "The component pool size cannot be negative");
+        }
+        this.componentPoolSize = componentPoolSize;
+    }
+
+    /**
+     * Gets the maximum number of rendered components that are kept for reuse.
+     *
+     * @return the maximum number of components kept for reuse,
+     *         <code>0</code> if reuse is disabled
+     * @see #setComponentPoolSize(int)
+     */
+    public int getComponentPoolSize() {
+        return componentPoolSize;
+    }
+
     private void setupTemplateWhenAttached(UI ui, Element owner,
             ComponentRendering rendering, DataKeyMapper<SOURCE> keyMapper) {
         String appId = ui.getInternals().getAppId();
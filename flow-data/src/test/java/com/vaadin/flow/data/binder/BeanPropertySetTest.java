@@ -221,6 +221,56 @@ public class BeanPropertySetTest {
         BeanPropertySet.get(FatherAndSon.class).getProperty("father.age");
     }
 
+    @Test
+    public void primitiveProperty_getterAndSetterBoxValues() {
+        PropertyDefinition<com.vaadin.flow.tests.data.bean.Person, Integer> definition = (PropertyDefinition<com.vaadin.flow.tests.data.bean.Person, Integer>) BeanPropertySet
+                .get(com.vaadin.flow.tests.data.bean.Person.class)
+                .getProperty("age").orElseThrow(AssertionFailedError::new);
+        com.vaadin.flow.tests.data.bean.Person person = new com.vaadin.flow.tests.data.bean.Person();
+
+        definition.getSetter().orElseThrow(AssertionFailedError::new)
+                .accept(person, 42);
+
+        Assert.assertEquals(42, person.getAge());
+        Assert.assertEquals(Integer.valueOf(42),
+                definition.getGetter().apply(person));
+    }
+
+    @Test
+    public void nestedPropertyDefinition_setterUpdatesNestedBean() {
+        PropertyDefinition<FatherAndSon, String> definition = (PropertyDefinition<FatherAndSon, String>) BeanPropertySet
+                .get(FatherAndSon.class).getProperty("father.firstName")
+                .orElseThrow(AssertionFailedError::new);
+        FatherAndSon father = new FatherAndSon("Old Jon", "Doe", null, null);
+        FatherAndSon son = new FatherAndSon("Jon", "Doe", father, null);
+
+        definition.getSetter().orElseThrow(AssertionFailedError::new)
+                .accept(son, "Old John");
+
+        Assert.assertEquals("Old John", father.getFirstName());
+        Assert.assertEquals("Old John", definition.getGetter().apply(son));
+    }
+
+    @Test
+    public void testSerializeDeserialize_getterAndSetter() throws Exception {
+        PropertyDefinition<FatherAndSon, String> definition = (PropertyDefinition<FatherAndSon, String>) BeanPropertySet
+                .get(FatherAndSon.class).getProperty("father.lastName")
+                .orElseThrow(AssertionFailedError::new);
+        FatherAndSon son = new FatherAndSon("Jon", "Doe",
+                new FatherAndSon("Old Jon", "Doe", null, null), null);
+        // Use the accessors before serializing
+        Assert.assertEquals("Doe", definition.getGetter().apply(son));
+
+        ValueProvider<FatherAndSon, String> getter = ClassesSerializableUtils
+                .serializeAndDeserialize(definition.getGetter());
+        Setter<FatherAndSon, String> setter = ClassesSerializableUtils
+                .serializeAndDeserialize(definition.getSetter()
+                        .orElseThrow(AssertionFailedError::new));
+
+        setter.accept(son, "Smith");
+        Assert.assertEquals("Smith", getter.apply(son));
+    }
+
     @Test
     public void properties() {
         PropertySet<Person> propertySet = BeanPropertySet.get(Person.class);
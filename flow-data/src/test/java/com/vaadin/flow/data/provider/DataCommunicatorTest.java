@@ -17,6 +17,7 @@ package com.vaadin.flow.data.provider;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.IntStream;
@@ -35,6 +36,7 @@ import org.mockito.MockitoAnnotations;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.Range;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -342,6 +344,119 @@ public class DataCommunicatorTest {
         Mockito.verify(dataProvider, Mockito.times(1)).fetch(Mockito.any());
     }
 
+    @Test
+    public void asyncExecutor_loadedOffLockAndPrefetched() {
+        List<Runnable> executorTasks = new ArrayList<>();
+        AtomicInteger sizeQueries = new AtomicInteger();
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.accessSession(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgumentAt(1, Command.class).execute();
+                    return null;
+                });
+        MockUI asyncUI = new MockUI(new AlwaysLockedVaadinSession(service));
+        Element asyncElement = new Element("div");
+        asyncUI.getElement().appendChild(asyncElement);
+        DataCommunicator<Item> communicator = new DataCommunicator<>(
+                dataGenerator, arrayUpdater, data -> {
+                }, asyncElement.getNode());
+        communicator.setDataProvider(createBackendDataProvider(sizeQueries),
+                null);
+        communicator.setAsyncExecutor(executorTasks::add);
+
+        communicator.setRequestedRange(0, 50);
+        fakeClientCommunication(asyncUI);
+
+        Assert.assertNull("Nothing should be sent before data is loaded",
+                lastSet);
+        Assert.assertEquals("Size and items should be queried concurrently",
+                2, executorTasks.size());
+
+        executorTasks.forEach(Runnable::run);
+        fakeClientCommunication(asyncUI);
+
+        Assert.assertEquals(Range.withLength(0, 50), lastSet);
+        Assert.assertEquals(1, sizeQueries.get());
+
+        communicator.setRequestedRange(50, 50);
+        fakeClientCommunication(asyncUI);
+
+        Assert.assertEquals("Prefetched items should be sent right away",
+                Range.withLength(50, 50), lastSet);
+        Assert.assertEquals(2, executorTasks.size());
+
+        communicator.setRequestedRange(100, 50);
+        fakeClientCommunication(asyncUI);
+
+        Assert.assertEquals("Only items should be queried for a new range", 3,
+                executorTasks.size());
+        executorTasks.get(2).run();
+        fakeClientCommunication(asyncUI);
+
+        Assert.assertEquals(Range.withLength(100, 50), lastSet);
+        Assert.assertEquals(1, sizeQueries.get());
+    }
+
+    @Test
+    public void asyncExecutor_rangePastEnd_sizeFromProvider() {
+        List<Runnable> executorTasks = new ArrayList<>();
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.accessSession(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgumentAt(1, Command.class).execute();
+                    return null;
+                });
+        MockUI asyncUI = new MockUI(new AlwaysLockedVaadinSession(service));
+        Element asyncElement = new Element("div");
+        asyncUI.getElement().appendChild(asyncElement);
+        DataCommunicator<Item> communicator = new DataCommunicator<>(
+                dataGenerator, arrayUpdater, data -> {
+                }, asyncElement.getNode());
+        communicator.setDataProvider(
+                createBackendDataProvider(new AtomicInteger()), null);
+        communicator.setAsyncExecutor(executorTasks::add);
+
+        communicator.setRequestedRange(2000, 50);
+        fakeClientCommunication(asyncUI);
+        executorTasks.forEach(Runnable::run);
+        fakeClientCommunication(asyncUI);
+
+        Mockito.verify(arrayUpdater).startUpdate(1000);
+        Mockito.verify(arrayUpdater, Mockito.never()).startUpdate(2000);
+        Assert.assertNull("No items should be sent", lastSet);
+    }
+
+    private void fakeClientCommunication(UI ui) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        ui.getInternals().getStateTree().collectChanges(ignore -> {
+        });
+    }
+
+    private AbstractDataProvider<Item, Object> createBackendDataProvider(
+            AtomicInteger sizeQueries) {
+        return new AbstractDataProvider<Item, Object>() {
+            @Override
+            public boolean isInMemory() {
+                return false;
+            }
+
+            @Override
+            public int size(Query<Item, Object> query) {
+                sizeQueries.incrementAndGet();
+                return 1000;
+            }
+
+            @Override
+            public Stream<Item> fetch(Query<Item, Object> query) {
+                return IntStream
+                        .range(query.getOffset(),
+                                Math.min(query.getLimit() + query.getOffset(),
+                                        1000))
+                        .mapToObj(Item::new);
+            }
+        };
+    }
+
     private void fakeClientCommunication() {
         ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
         ui.getInternals().getStateTree().collectChanges(ignore -> {
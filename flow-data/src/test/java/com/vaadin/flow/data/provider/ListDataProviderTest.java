@@ -18,6 +18,7 @@ package com.vaadin.flow.data.provider;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
@@ -25,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
 
 public class ListDataProviderTest
         extends DataProviderTestBase<ListDataProvider<StrBean>> {
@@ -232,6 +234,61 @@ public class ListDataProviderTest
         assertSizeWithFilter(0, filteringBy, "oo");
     }
 
+    @Test
+    public void fetchPages_sameSorting_itemsSortedOnce() {
+        AtomicInteger comparisons = new AtomicInteger();
+        SerializableComparator<StrBean> comparator = (bean1, bean2) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(bean1.getId(), bean2.getId());
+        };
+        ListDataProvider<StrBean> dataProvider = getDataProvider();
+
+        List<StrBean> firstPage = dataProvider
+                .fetch(new Query<>(0, 10, null, comparator, null))
+                .collect(Collectors.toList());
+        int comparisonsForFirstPage = comparisons.get();
+        List<StrBean> secondPage = dataProvider
+                .fetch(new Query<>(10, 10, null, comparator, null))
+                .collect(Collectors.toList());
+
+        Assert.assertTrue(comparisonsForFirstPage > 0);
+        Assert.assertEquals(comparisonsForFirstPage, comparisons.get());
+        Assert.assertEquals(0, firstPage.get(0).getId());
+        Assert.assertEquals(10, secondPage.get(0).getId());
+        Assert.assertEquals(10, secondPage.size());
+    }
+
+    @Test
+    public void fetch_itemChangedAndRefreshed_sortedAgain() {
+        SerializableComparator<StrBean> comparator = Comparator
+                .comparing(StrBean::getValue)::compare;
+        ListDataProvider<StrBean> dataProvider = getDataProvider();
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(0,
+                1, null, comparator, null);
+        StrBean first = dataProvider.fetch(query).findFirst().get();
+        StrBean last = data.stream().max(comparator).get();
+
+        last.setValue("");
+        dataProvider.refreshItem(last);
+
+        Assert.assertNotEquals(first, last);
+        Assert.assertSame(last, dataProvider.fetch(query).findFirst().get());
+    }
+
+    @Test
+    public void size_itemAddedToBackend_filteredAgain() {
+        ListDataProvider<StrBean> dataProvider = getDataProvider();
+        SerializablePredicate<StrBean> filter = bean -> "Xyz"
+                .equals(bean.getValue());
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(
+                filter);
+        int size = dataProvider.size(query);
+
+        data.add(new StrBean("Xyz", 1000, 0));
+
+        Assert.assertEquals(size + 1, dataProvider.size(query));
+    }
+
     @Override
     protected void setSortOrder(List<QuerySortOrder> sortOrder,
             Comparator<StrBean> comp) {
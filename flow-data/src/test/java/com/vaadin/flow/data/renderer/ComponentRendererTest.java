@@ -22,6 +22,12 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.data.provider.ComponentDataGenerator;
+import com.vaadin.flow.data.provider.CompositeDataGenerator;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.shared.Registration;
+
+import elemental.json.Json;
 
 public class ComponentRendererTest {
 
@@ -93,4 +99,137 @@ public class ComponentRendererTest {
                 updatedComponent);
     }
 
+    @Test
+    public void componentPoolSize_destroyedComponentReusedForNewItem() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestLabel, String> renderer = new ComponentRenderer<>(
+                item -> {
+                    createInvocations.incrementAndGet();
+                    return new TestLabel();
+                }, (component, item) -> component);
+        renderer.setComponentPoolSize(1);
+        Element container = new Element("div");
+        ComponentDataGenerator<String> generator = createGenerator(renderer,
+                container);
+
+        generator.generateData("a", Json.createObject());
+        Element rendered = container.getChild(0);
+        generator.destroyData("a");
+        generator.generateData("b", Json.createObject());
+
+        Assert.assertEquals(
+                "The component creation function should have been invoked once",
+                1, createInvocations.get());
+        Assert.assertEquals(1, container.getChildCount());
+        Assert.assertEquals(rendered, container.getChild(0));
+    }
+
+    @Test
+    public void componentPoolSize_poolFull_componentRemoved() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestLabel, String> renderer = new ComponentRenderer<>(
+                item -> {
+                    createInvocations.incrementAndGet();
+                    return new TestLabel();
+                }, (component, item) -> component);
+        renderer.setComponentPoolSize(1);
+        Element container = new Element("div");
+        ComponentDataGenerator<String> generator = createGenerator(renderer,
+                container);
+
+        generator.generateData("a", Json.createObject());
+        generator.generateData("b", Json.createObject());
+        generator.destroyData("a");
+        generator.destroyData("b");
+
+        Assert.assertEquals("Only one component should be kept for reuse", 1,
+                container.getChildCount());
+
+        generator.generateData("c", Json.createObject());
+        generator.generateData("d", Json.createObject());
+
+        Assert.assertEquals(3, createInvocations.get());
+        Assert.assertEquals(2, container.getChildCount());
+    }
+
+    @Test
+    public void componentPoolSize_default_componentRemovedOnDestroy() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestLabel, String> renderer = new ComponentRenderer<>(
+                item -> {
+                    createInvocations.incrementAndGet();
+                    return new TestLabel();
+                }, (component, item) -> component);
+        Element container = new Element("div");
+        ComponentDataGenerator<String> generator = createGenerator(renderer,
+                container);
+
+        generator.generateData("a", Json.createObject());
+        generator.destroyData("a");
+        Assert.assertEquals(0, container.getChildCount());
+
+        generator.generateData("b", Json.createObject());
+        Assert.assertEquals(2, createInvocations.get());
+    }
+
+    @Test
+    public void componentPoolSize_generatorRemoved_containerEmpty() {
+        ComponentRenderer<TestLabel, String> renderer = new ComponentRenderer<>(
+                item -> new TestLabel(), (component, item) -> component);
+        renderer.setComponentPoolSize(2);
+        Element container = new Element("div");
+        ComponentDataGenerator<String> generator = createGenerator(renderer,
+                container);
+        CompositeDataGenerator<String> composite = new CompositeDataGenerator<>();
+        Registration registration = composite.addDataGenerator(generator);
+
+        composite.generateData("a", Json.createObject());
+        composite.generateData("b", Json.createObject());
+        composite.generateData("c", Json.createObject());
+        composite.destroyData("a");
+        composite.destroyData("b");
+        Assert.assertEquals(3, container.getChildCount());
+
+        registration.remove();
+
+        Assert.assertEquals(0, container.getChildCount());
+    }
+
+    @Test
+    public void componentPoolSize_lowered_excessComponentsRemoved() {
+        ComponentRenderer<TestLabel, String> renderer = new ComponentRenderer<>(
+                item -> new TestLabel(), (component, item) -> component);
+        renderer.setComponentPoolSize(2);
+        Element container = new Element("div");
+        ComponentDataGenerator<String> generator = createGenerator(renderer,
+                container);
+
+        generator.generateData("a", Json.createObject());
+        generator.generateData("b", Json.createObject());
+        generator.generateData("c", Json.createObject());
+        generator.destroyData("a");
+        generator.destroyData("b");
+        Assert.assertEquals(3, container.getChildCount());
+
+        renderer.setComponentPoolSize(0);
+        generator.destroyData("c");
+
+        Assert.assertEquals(0, container.getChildCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void componentPoolSize_negative_throws() {
+        new ComponentRenderer<TestLabel, String>(item -> new TestLabel())
+                .setComponentPoolSize(-1);
+    }
+
+    private static ComponentDataGenerator<String> createGenerator(
+            ComponentRenderer<TestLabel, String> renderer, Element container) {
+        ComponentDataGenerator<String> generator = new ComponentDataGenerator<>(
+                renderer, item -> item);
+        generator.setContainer(container);
+        generator.setNodeIdPropertyName("nodeId");
+        return generator;
+    }
+
 }
@@ -167,6 +167,32 @@ public interface PushConfiguration extends Serializable {
      */
     void setPushConnectionFactory(PushConnectionFactory factory);
 
+    /**
+     * Sets the minimum time between two pushes initiated by the server, e.g.
+     * through {@link UI#push()} or by releasing the session lock in
+     * {@link PushMode#AUTOMATIC} mode. Pushes requested before the interval
+     * has elapsed since the previous push are postponed, and all changes made
+     * in the meantime are sent in one message at the end of the interval.
+     * <p>
+     * This limits the number of messages sent for frequently updated UIs. For
+     * example, an interval of 100 milliseconds means at most ten pushes per
+     * second. Responses to requests from the client are not affected.
+     *
+     * @param minimumPushInterval
+     *            the minimum interval in milliseconds, <code>0</code> (the
+     *            default) to push immediately every time
+     */
+    void setMinimumPushInterval(long minimumPushInterval);
+
+    /**
+     * Gets the minimum time between two pushes initiated by the server.
+     *
+     * @return the minimum interval in milliseconds, <code>0</code> if pushes
+     *         are sent immediately
+     * @see #setMinimumPushInterval(long)
+     */
+    long getMinimumPushInterval();
+
 }
 
 /**
@@ -178,6 +204,7 @@ public interface PushConfiguration extends Serializable {
 class PushConfigurationImpl implements PushConfiguration {
     private UI ui;
     private PushConnectionFactory pushConnectionFactory;
+    private long minimumPushInterval;
 
     PushConfigurationImpl(UI ui) {
         this.ui = ui;
@@ -285,4 +312,19 @@ class PushConfigurationImpl implements PushConfiguration {
             pushConnectionFactory, "Push connection factory must not be null"
         );
     }
+
+    @Override
+    public void setMinimumPushInterval(long minimumPushInterval) {
+        if (minimumPushInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Minimum push interval must not be negative, was "
+                            + minimumPushInterval);
+        }
+        this.minimumPushInterval = minimumPushInterval;
+    }
+
+    @Override
+    public long getMinimumPushInterval() {
+        return minimumPushInterval;
+    }
 }
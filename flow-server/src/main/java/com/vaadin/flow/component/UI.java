@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -653,9 +655,46 @@ public class UI extends Component
             return;
         }
 
+        long minimumPushInterval = getPushConfiguration()
+                .getMinimumPushInterval();
+        if (minimumPushInterval > 0 && deferPush(minimumPushInterval)) {
+            return;
+        }
+
         pushConnection.push();
     }
 
+    /**
+     * Checks whether a push should be postponed since the previous push was
+     * sent less than the given interval ago, and schedules the postponed push
+     * unless one is already pending.
+     */
+    private boolean deferPush(long minimumPushInterval) {
+        UIInternals internals = getInternals();
+        long lastPush = internals.getLastPushTimestamp();
+        long now = System.nanoTime();
+        long delay = lastPush == 0 ? 0
+                : minimumPushInterval
+                        - TimeUnit.NANOSECONDS.toMillis(now - lastPush);
+        if (delay <= 0) {
+            internals.setLastPushTimestamp(now);
+            return false;
+        }
+
+        if (!internals.isDeferredPushPending()) {
+            try {
+                getSession().getService().scheduleDeferredPush(this, delay);
+            } catch (RejectedExecutionException e) {
+                // The service is being destroyed, push right away instead
+                getLogger().debug("Could not postpone push", e);
+                internals.setLastPushTimestamp(now);
+                return false;
+            }
+            internals.setDeferredPushPending(true);
+        }
+        return true;
+    }
+
     /**
      * Retrieves the object used for configuring the push channel.
      * <p>
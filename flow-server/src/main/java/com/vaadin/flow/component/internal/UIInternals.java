@@ -62,6 +62,7 @@ import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.router.internal.AfterNavigationHandler;
 import com.vaadin.flow.router.internal.BeforeEnterHandler;
 import com.vaadin.flow.router.internal.BeforeLeaveHandler;
+import com.vaadin.flow.server.RequestMetrics;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.WebBrowser;
@@ -135,6 +136,8 @@ public class UIInternals implements Serializable {
 
     private PushConnection pushConnection = null;
 
+    private transient RequestMetrics requestMetrics;
+
     /**
      * Timestamp for keeping track of the last heartbeat of the related UI.
      * Updated to the current time whenever the application receives a heartbeat
@@ -142,6 +145,19 @@ public class UIInternals implements Serializable {
      */
     private long lastHeartbeatTimestamp = System.currentTimeMillis();
 
+    /**
+     * Timestamp of the last push initiated by the server, only updated if a
+     * minimum push interval is configured. Not serialized since
+     * {@link System#nanoTime()} values are only comparable within one JVM.
+     */
+    private transient long lastPushTimestamp;
+
+    /**
+     * Whether a deferred push has been scheduled. Not serialized since the
+     * scheduled task does not survive deserialization either.
+     */
+    private transient boolean deferredPushPending;
+
     private List<JavaScriptInvocation> pendingJsInvocations = new ArrayList<>();
 
     /**
@@ -311,6 +327,55 @@ public class UIInternals implements Serializable {
                 .forEach(listener -> listener.heartbeat(heartbeatEvent));
     }
 
+    /**
+     * Gets the time of the last push initiated by the server for the related
+     * UI. Only tracked when a minimum push interval is configured. This method
+     * should only be called by the framework.
+     *
+     * @see com.vaadin.flow.component.PushConfiguration#setMinimumPushInterval(long)
+     *
+     * @return the time of the last push as given by {@link System#nanoTime()},
+     *         or <code>0</code> if there has not been any
+     */
+    public long getLastPushTimestamp() {
+        return lastPushTimestamp;
+    }
+
+    /**
+     * Sets the time of the last push initiated by the server for the related
+     * UI. This method should only be called by the framework.
+     *
+     * @param lastPushTimestamp
+     *            the time of the last push as given by
+     *            {@link System#nanoTime()}
+     */
+    public void setLastPushTimestamp(long lastPushTimestamp) {
+        this.lastPushTimestamp = lastPushTimestamp;
+    }
+
+    /**
+     * Checks whether a postponed push has been scheduled for the related UI.
+     * This method should only be called by the framework.
+     *
+     * @return <code>true</code> if a postponed push is pending,
+     *         <code>false</code> otherwise
+     */
+    public boolean isDeferredPushPending() {
+        return deferredPushPending;
+    }
+
+    /**
+     * Sets whether a postponed push has been scheduled for the related UI.
+     * This method should only be called by the framework.
+     *
+     * @param deferredPushPending
+     *            <code>true</code> if a postponed push is pending,
+     *            <code>false</code> otherwise
+     */
+    public void setDeferredPushPending(boolean deferredPushPending) {
+        this.deferredPushPending = deferredPushPending;
+    }
+
     @SuppressWarnings("unchecked")
     private static Class<? extends NodeFeature>[] getRootNodeFeatures() {
         // Start with all element features
@@ -384,6 +449,31 @@ public class UIInternals implements Serializable {
         }
     }
 
+    /**
+     * Gets the metrics collector of the server round trip currently being
+     * handled for the related UI. This method should only be called by the
+     * framework.
+     *
+     * @return the metrics collector, or <code>null</code> if no metrics are
+     *         being collected
+     */
+    public RequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+
+    /**
+     * Sets the metrics collector of the server round trip currently being
+     * handled for the related UI. This method should only be called by the
+     * framework.
+     *
+     * @param requestMetrics
+     *            the metrics collector, or <code>null</code> to stop
+     *            collecting metrics
+     */
+    public void setRequestMetrics(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
     /**
      * Returns the internal push connection object used by the related UI. This
      * method should only be called by the framework.
@@ -324,4 +324,68 @@ public interface DeploymentConfiguration extends Serializable {
     default boolean isBrotli() {
         return getBooleanProperty(Constants.SERVLET_PARAMETER_BROTLI, false);
     }
+
+    /**
+     * Checks whether stream resource downloads and uploads should be
+     * transferred using asynchronous servlet I/O when the servlet supports it.
+     *
+     * @return <code>true</code> to transfer streams asynchronously,
+     *         <code>false</code> to use blocking I/O on the request thread
+     */
+    default boolean isAsyncStreamTransfer() {
+        return getBooleanProperty(
+                Constants.SERVLET_PARAMETER_ASYNC_STREAM_TRANSFER, false);
+    }
+
+    /**
+     * Gets the time after which an asynchronous stream resource download or
+     * upload is aborted if it hasn't completed.
+     *
+     * @return the timeout in milliseconds
+     */
+    default long getAsyncStreamTransferTimeout() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_ASYNC_STREAM_TRANSFER_TIMEOUT,
+                Constants.DEFAULT_ASYNC_STREAM_TRANSFER_TIMEOUT,
+                Long::parseLong);
+    }
+
+    /**
+     * Gets the maximum total size of the static resources cached in memory by
+     * {@link com.vaadin.flow.server.StaticFileServer} in production mode.
+     *
+     * @return the cache size in bytes, <code>0</code> to disable the cache
+     */
+    default long getStaticResourceCacheSize() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_SIZE,
+                Constants.DEFAULT_STATIC_RESOURCE_CACHE_SIZE, Long::parseLong);
+    }
+
+    /**
+     * Checks whether the queues of
+     * {@link com.vaadin.flow.server.VaadinSession#access(com.vaadin.flow.server.Command)}
+     * tasks should be run on a dedicated executor.
+     *
+     * @return <code>true</code> to run access tasks on an executor,
+     *         <code>false</code> to run them on the thread that enqueues them
+     *         when the session is not locked
+     */
+    default boolean isAccessExecutor() {
+        return getBooleanProperty(Constants.SERVLET_PARAMETER_ACCESS_EXECUTOR,
+                false);
+    }
+
+    /**
+     * Gets the number of threads used for running access tasks when virtual
+     * threads are not available.
+     *
+     * @return the number of threads, <code>0</code> to use twice the number of
+     *         available processors
+     */
+    default int getAccessExecutorPoolSize() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_ACCESS_EXECUTOR_POOL_SIZE, 0,
+                Integer::parseInt);
+    }
 }
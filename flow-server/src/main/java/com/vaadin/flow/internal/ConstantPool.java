@@ -16,7 +16,9 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import elemental.json.Json;
@@ -25,19 +27,32 @@ import elemental.json.JsonObject;
 /**
  * Keeps track of {@link ConstantPoolKey} values that have already been sent to
  * the client.
+ * <p>
+ * The client keeps all values it has received since DOM event listeners may
+ * refer to them at any time, so the ids of all values sent to the client are
+ * tracked for the lifetime of the UI. An id is never given to a different
+ * value, not even after {@link #clear()}.
  *
  * @author Vaadin Ltd
  * @since 1.0
  */
 public class ConstantPool implements Serializable {
 
-    private Set<String> knownValues = new HashSet<>();
+    // Maps the id of each value known by the client to its check hash
+    private final Map<String, Long> knownValues = new HashMap<>();
 
-    private Set<ConstantPoolKey> newKeys = new HashSet<>();
+    // Ids of known values that must be sent again, only used after clear()
+    private final Set<String> resendIds = new HashSet<>();
+
+    private final Map<String, ConstantPoolKey> newKeys = new HashMap<>();
 
     /**
      * Gets the id of a given constant, registering the constant with this
      * constant pool if it hasn't already been encountered.
+     * <p>
+     * The id is normally the same as {@link ConstantPoolKey#getId()}. If that
+     * id is already used for a different value, a longer id based on the full
+     * hash of the value is used instead.
      *
      * @see #dumpConstants()
      *
@@ -49,9 +64,19 @@ public class ConstantPool implements Serializable {
         assert constant != null;
 
         String id = constant.getId();
+        Long checkHash = knownValues.get(id);
+        if (checkHash != null
+                && checkHash.longValue() != constant.getCheckHash()) {
+            // Hash collision with a different value
+            id = constant.getLongId();
+            checkHash = knownValues.get(id);
+        }
 
-        if (knownValues.add(id)) {
-            newKeys.add(constant);
+        if (checkHash == null) {
+            knownValues.put(id, constant.getCheckHash());
+            newKeys.put(id, constant);
+        } else if (!resendIds.isEmpty() && resendIds.remove(id)) {
+            newKeys.put(id, constant);
         }
 
         return id;
@@ -77,10 +102,21 @@ public class ConstantPool implements Serializable {
     public JsonObject dumpConstants() {
         JsonObject json = Json.createObject();
 
-        newKeys.forEach(key -> key.export(json));
+        newKeys.forEach((id, key) -> key.export(json, id));
         newKeys.clear();
 
         return json;
     }
 
+    /**
+     * Marks all constants that have been sent to the client to be sent again
+     * the next time they are used. This is needed when the client might not
+     * have received all previously dumped constants. The ids of the constants
+     * are kept, since the client might still refer to them.
+     */
+    public void clear() {
+        resendIds.addAll(knownValues.keySet());
+        newKeys.clear();
+    }
+
 }
@@ -17,7 +17,6 @@ package com.vaadin.flow.internal;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 import elemental.json.JsonObject;
@@ -36,8 +35,13 @@ import elemental.json.JsonValue;
  * @since 1.0
  */
 public class ConstantPoolKey implements Serializable {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
     // Only stored until delivered to the client
     private JsonValue json;
+    private final long hash;
+    private final long checkHash;
     private final String id;
 
     /**
@@ -52,7 +56,10 @@ public class ConstantPoolKey implements Serializable {
         assert json != null;
         this.json = json;
 
-        id = calculateHash(json);
+        long[] hashes = calculateHash(json);
+        hash = hashes[0];
+        checkHash = hashes[1];
+        id = encodeId(hash);
     }
 
     /**
@@ -64,6 +71,28 @@ public class ConstantPoolKey implements Serializable {
         return id;
     }
 
+    /**
+     * Gets an id based on the full 128 bit hash of the JSON constant. The
+     * {@link ConstantPool} uses this id instead of {@link #getId()} if the
+     * shorter id is already used for a different value.
+     *
+     * @return the long id used to identify this value
+     */
+    String getLongId() {
+        return id + encodeId(checkHash);
+    }
+
+    /**
+     * Gets a hash of the JSON constant that is independent of the hash used
+     * for {@link #getId()}. Two keys with the same id but different check
+     * hashes refer to different values.
+     *
+     * @return the check hash
+     */
+    long getCheckHash() {
+        return checkHash;
+    }
+
     /**
      * Exports the this key into a JSON object to send to the client. This
      * method should only be called once and only by the {@link ConstantPool}
@@ -74,34 +103,109 @@ public class ConstantPoolKey implements Serializable {
      *            <code>null</code>
      */
     public void export(JsonObject clientConstantPoolUpdate) {
+        export(clientConstantPoolUpdate, id);
+    }
+
+    /**
+     * Exports the this key into a JSON object using the given id.
+     *
+     * @param clientConstantPoolUpdate
+     *            the constant pool update that is to be sent to the client, not
+     *            <code>null</code>
+     * @param exportId
+     *            the id assigned to this key by the constant pool, either
+     *            {@link #getId()} or {@link #getLongId()}
+     */
+    void export(JsonObject clientConstantPoolUpdate, String exportId) {
         assert json != null : "Process can only be called once";
-        assert id.equals(calculateHash(json)) : "Json value has been changed";
+        assert hash == calculateHash(json)[0] : "Json value has been changed";
 
-        clientConstantPoolUpdate.put(id, json);
+        clientConstantPoolUpdate.put(exportId, json);
 
         json = null;
     }
 
     /**
-     * Calculates the key of a JSON value by Base 64 encoding the first 64 bits
-     * of the SHA-256 digest of the JSON's string representation.
+     * Calculates a 128 bit hash of the JSON's string representation using the
+     * MurmurHash3 algorithm, applied directly to the UTF-16 characters of the
+     * string to avoid encoding it to bytes.
      *
      * @param json
      *            the JSON to get a hash of, not <code>null</code>
-     * @return the key uniquely identifying the given JSON value
+     * @return the two 64 bit halves of the hash
      */
-    private static String calculateHash(JsonValue json) {
-        byte[] digest = MessageDigestUtil.sha256(json.toJson());
+    private static long[] calculateHash(JsonValue json) {
+        String value = json.toJson();
+        int length = value.length();
+        long h1 = 0;
+        long h2 = 0;
+
+        // Eight characters (16 bytes) per block
+        int blockEnd = length & ~7;
+        for (int i = 0; i < blockEnd; i += 8) {
+            long k1 = getChars(value, i, 4);
+            long k2 = getChars(value, i + 4, 4);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
 
-        /*
-         * Only use first 64 bits to keep id string short (1 in 100 000 000
-         * collision risk with 500 000 items). 64 bits base64 -> 11 ASCII chars
-         */
-        ByteBuffer truncatedDigest = ByteBuffer.wrap(digest, 0, 8);
+        int tail = length - blockEnd;
+        if (tail > 4) {
+            h2 ^= mixK2(getChars(value, blockEnd + 4, tail - 4));
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(getChars(value, blockEnd, Math.min(tail, 4)));
+        }
 
-        ByteBuffer base64Bytes = Base64.getEncoder().encode(truncatedDigest);
+        h1 ^= length * 2L;
+        h2 ^= length * 2L;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        return new long[] { h1, h2 };
+    }
+
+    private static long getChars(String value, int start, int count) {
+        long result = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            result = result << 16 | value.charAt(start + i);
+        }
+        return result;
+    }
 
-        return StandardCharsets.US_ASCII.decode(base64Bytes).toString();
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * Base 64 encodes a 64 bit hash. 64 bits base64 -> 11 ASCII chars
+     */
+    private static String encodeId(long hash) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(hash).array();
+        return Base64.getEncoder().withoutPadding().encodeToString(bytes);
     }
 
 }
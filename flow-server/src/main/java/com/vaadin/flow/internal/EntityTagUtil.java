@@ -0,0 +1,100 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilities for handling HTTP entity tags in conditional requests.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public final class EntityTagUtil {
+
+    private EntityTagUtil() {
+        // Static utils only
+    }
+
+    /**
+     * Checks whether an "If-None-Match" header value matches the entity tag of
+     * the current version of a resource. Entity tags are compared using the
+     * weak comparison, so a <code>W/</code> prefix is ignored, and
+     * <code>*</code> matches any entity tag.
+     *
+     * @param ifNoneMatch
+     *            the value of the "If-None-Match" header, not
+     *            <code>null</code>
+     * @param eTag
+     *            the entity tag of the resource, or <code>null</code> if the
+     *            resource has no entity tag
+     * @return <code>true</code> if the header matches the entity tag,
+     *         <code>false</code> otherwise
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch,
+            String eTag) {
+        if (eTag == null) {
+            return false;
+        }
+        String opaqueTag = getOpaqueTag(eTag);
+        for (String candidate : parseEntityTags(ifNoneMatch)) {
+            if ("*".equals(candidate)
+                    || opaqueTag.equals(getOpaqueTag(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits a comma separated list of entity tags. Quoted tags may contain
+     * commas, and malformed elements are skipped.
+     */
+    private static List<String> parseEntityTags(String header) {
+        List<String> tags = new ArrayList<>();
+        int index = 0;
+        while (index < header.length()) {
+            char c = header.charAt(index);
+            if (c == ',' || Character.isWhitespace(c)) {
+                index++;
+            } else if (c == '*') {
+                tags.add("*");
+                index++;
+            } else {
+                int quote = header.indexOf('"', index);
+                int comma = header.indexOf(',', index);
+                if (quote == -1 || (comma != -1 && comma < quote)) {
+                    // Not a quoted tag, skip to the next element
+                    index = comma == -1 ? header.length() : comma + 1;
+                    continue;
+                }
+                int closingQuote = header.indexOf('"', quote + 1);
+                if (closingQuote == -1) {
+                    break;
+                }
+                tags.add(header.substring(index, closingQuote + 1));
+                index = closingQuote + 1;
+            }
+        }
+        return tags;
+    }
+
+    private static String getOpaqueTag(String entityTag) {
+        return entityTag.startsWith("W/") ? entityTag.substring(2)
+                : entityTag;
+    }
+}
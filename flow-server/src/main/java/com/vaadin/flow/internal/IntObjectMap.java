@@ -0,0 +1,204 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+
+/**
+ * A map from positive <code>int</code> keys to object values using open
+ * addressing with linear probing. Unlike a <code>HashMap</code>, no boxed keys
+ * or entry objects are created, which keeps the memory use per entry at the
+ * size of one <code>int</code> and one reference in the backing arrays.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ *
+ * @param <V>
+ *            the value type
+ */
+final class IntObjectMap<V extends Serializable> implements Serializable {
+    // Marks an unused slot in the keys array, valid keys are positive
+    private static final int EMPTY = 0;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    IntObjectMap() {
+        keys = new int[MIN_CAPACITY];
+        values = new Object[MIN_CAPACITY];
+    }
+
+    /**
+     * Gets the value stored for the given key.
+     *
+     * @param key
+     *            the key to look for
+     * @return the value, or <code>null</code> if no value is stored for the
+     *         key
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        if (key <= EMPTY) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); keys[slot] != EMPTY; slot = (slot + 1)
+                & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a value is stored for the given key.
+     *
+     * @param key
+     *            the key to check
+     * @return <code>true</code> if there is a value for the key, otherwise
+     *         <code>false</code>
+     */
+    boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores a value for the given key, replacing any previous value.
+     *
+     * @param key
+     *            the key, must be positive
+     * @param value
+     *            the value to store, not <code>null</code>
+     * @return the previous value, or <code>null</code> if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        assert key > EMPTY : "Key must be positive";
+        assert value != null;
+
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                V oldValue = (V) values[slot];
+                values[slot] = value;
+                return oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        // Keep the load factor at most 0.5 to keep probe sequences short
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value stored for the given key.
+     *
+     * @param key
+     *            the key to remove
+     * @return the removed value, or <code>null</code> if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        if (key <= EMPTY) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        V oldValue = (V) values[slot];
+        size--;
+
+        /*
+         * Shift following entries of the same probe sequence back instead of
+         * leaving a tombstone, so that lookups never need to skip removed
+         * slots.
+         */
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next
+                + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+
+        if (keys.length > MIN_CAPACITY && size * 8 < keys.length) {
+            resize(keys.length / 2);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Gets the number of stored values.
+     *
+     * @return the number of values
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = slot(key, mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(int key, int mask) {
+        // Node ids are sequential, spread them to avoid long clusters
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
@@ -15,9 +15,12 @@
  */
 package com.vaadin.flow.internal;
 
-import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -46,6 +49,68 @@ import elemental.json.JsonValue;
  */
 public final class JsonSerializer {
 
+    private static final ReflectionCache<Object, BeanCodec> BEAN_CODECS = new ReflectionCache<>(
+            BeanCodec::new);
+
+    /**
+     * Accessors for the bean properties of a class, looked up once per class.
+     * The method handles are adapted to take and return {@link Object} so that
+     * they can be invoked without reflection.
+     */
+    private static class BeanCodec {
+        private final String[] readerNames;
+        private final MethodHandle[] readers;
+        private final Map<String, PropertyWriter> writers = new HashMap<>();
+
+        private BeanCodec(Class<?> type) {
+            try {
+                PropertyDescriptor[] descriptors = Introspector
+                        .getBeanInfo(type).getPropertyDescriptors();
+                List<String> names = new ArrayList<>(descriptors.length);
+                List<MethodHandle> getters = new ArrayList<>(
+                        descriptors.length);
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                for (PropertyDescriptor pd : descriptors) {
+                    Method reader = pd.getReadMethod();
+                    if (reader != null && !"class".equals(pd.getName())) {
+                        names.add(pd.getName());
+                        getters.add(lookup.unreflect(reader).asType(
+                                MethodType.methodType(Object.class,
+                                        Object.class)));
+                    }
+                    Method writer = pd.getWriteMethod();
+                    if (writer != null) {
+                        writers.put(pd.getName(), new PropertyWriter(
+                                writer.getParameterTypes()[0],
+                                writer.getGenericParameterTypes()[0],
+                                lookup.unreflect(writer)
+                                        .asType(MethodType.methodType(
+                                                void.class, Object.class,
+                                                Object.class))));
+                    }
+                }
+                readerNames = names.toArray(new String[names.size()]);
+                readers = getters.toArray(new MethodHandle[getters.size()]);
+            } catch (IntrospectionException | IllegalAccessException e) {
+                throw new IllegalArgumentException(
+                        "Could not access the properties of " + type, e);
+            }
+        }
+    }
+
+    private static class PropertyWriter {
+        private final Class<?> type;
+        private final Type genericType;
+        private final MethodHandle setter;
+
+        private PropertyWriter(Class<?> type, Type genericType,
+                MethodHandle setter) {
+            this.type = type;
+            this.genericType = genericType;
+            this.setter = setter;
+        }
+    }
+
     private JsonSerializer() {
     }
 
@@ -78,21 +143,46 @@ public final class JsonSerializer {
             return simpleType.get();
         }
 
+        JsonObject json = Json.createObject();
+        writeProperties(bean, json);
+        return json;
+    }
+
+    /**
+     * Writes the properties of a Java bean directly into the given JSON
+     * object, using the same conversion as {@link #toJson(Object)}. Nothing is
+     * written if the object is not a Java bean, i.e. if {@link #toJson(Object)}
+     * would not convert it using its bean properties.
+     *
+     * @param bean
+     *            Java object to be converted
+     * @param json
+     *            the JSON object to write the properties to, not
+     *            <code>null</code>
+     * @return <code>true</code> if the bean properties were written,
+     *         <code>false</code> if the object is not a Java bean
+     */
+    public static boolean writeBeanProperties(Object bean, JsonObject json) {
+        if (bean == null || bean instanceof Collection
+                || bean.getClass().isArray()
+                || bean instanceof JsonSerializable
+                || tryToConvertToSimpleType(bean).isPresent()) {
+            return false;
+        }
+        writeProperties(bean, json);
+        return true;
+    }
+
+    private static void writeProperties(Object bean, JsonObject json) {
         try {
-            JsonObject json = Json.createObject();
-            BeanInfo info = Introspector.getBeanInfo(bean.getClass());
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                if ("class".equals(pd.getName())) {
-                    continue;
-                }
-                Method reader = pd.getReadMethod();
-                if (reader != null) {
-                    json.put(pd.getName(), toJson(reader.invoke(bean)));
-                }
+            BeanCodec codec = BEAN_CODECS.get(bean.getClass());
+            for (int i = 0; i < codec.readerNames.length; i++) {
+                Object value = codec.readers[i].invokeExact(bean);
+                json.put(codec.readerNames[i], toJson(value));
             }
-
-            return json;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(
                     "Could not serialize object of type " + bean.getClass()
                             + " to JsonValue",
@@ -210,31 +300,20 @@ public final class JsonSerializer {
                 return instance;
             }
 
-            BeanInfo info = Introspector.getBeanInfo(type);
-            Map<String, Method> writers = new HashMap<>();
-
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                Method writer = pd.getWriteMethod();
-                if (writer != null) {
-                    writers.put(pd.getName(), writer);
-                }
-            }
+            BeanCodec codec = BEAN_CODECS.get(type);
             for (String key : keys) {
-                JsonValue jsonValue = jsonObject.get(key);
-
-                Method method = writers.get(key);
-                if (method != null) {
-                    Class<?> parameterType = method.getParameterTypes()[0];
-                    Type genericParameterType = method
-                            .getGenericParameterTypes()[0];
-                    Object value = toObject(parameterType, genericParameterType,
-                            jsonValue);
-                    method.invoke(instance, value);
+                PropertyWriter writer = codec.writers.get(key);
+                if (writer != null) {
+                    Object value = toObject(writer.type, writer.genericType,
+                            jsonObject.get(key));
+                    writer.setter.invokeExact((Object) instance, value);
                 }
             }
 
             return instance;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(
                     "Could not deserialize object of type " + type
                             + " from JsonValue",
@@ -16,6 +16,7 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.internal.StaticResourceCache.CachedResource;
 
 /**
  * The class that handles writing the response data into the response.
@@ -174,6 +176,126 @@ public class ResponseWriter implements Serializable {
         }
     }
 
+    /**
+     * Writes the contents and content type (if available) of the given cached
+     * resource to the response. A precompressed variant is written if
+     * available and accepted by the browser.
+     *
+     * @param filenameWithPath
+     *            the name of the file being sent
+     * @param resource
+     *            the cached contents of the file
+     * @param request
+     *            the request object to read from
+     * @param response
+     *            the response object to write to
+     */
+    public void writeResponseContents(String filenameWithPath,
+            CachedResource resource, HttpServletRequest request,
+            HttpServletResponse response) {
+        writeContentType(filenameWithPath, request, response);
+
+        byte[] data = resource.getData();
+        if (brotliEnabled && resource.getBrotliData() != null
+                && acceptsBrotliResource(request)) {
+            data = resource.getBrotliData();
+            response.setHeader("Content-Encoding", "br");
+        } else if (resource.getGzipData() != null
+                && acceptsGzippedResource(request)) {
+            data = resource.getGzipData();
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        if (data != resource.getData()) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+        response.setContentLengthLong(data.length);
+
+        try {
+            response.getOutputStream().write(data);
+        } catch (IOException e) {
+            getLogger().debug("Error writing static file to user", e);
+        }
+    }
+
+    /**
+     * Reads the contents of the given resource and its precompressed variants
+     * into memory.
+     *
+     * @param filenameWithPath
+     *            the name of the file to read
+     * @param resourceUrl
+     *            the URL to the file, reported by the servlet container
+     * @param lastModified
+     *            the last modification timestamp of the file, or
+     *            <code>-1</code> if not known
+     * @param request
+     *            the request used to look up the precompressed variants
+     * @param maxSize
+     *            the maximum total size of the contents in bytes
+     * @return the contents of the resource, or <code>null</code> if the
+     *         contents are larger than <code>maxSize</code> or could not be
+     *         read
+     */
+    public CachedResource readResourceContents(String filenameWithPath,
+            URL resourceUrl, long lastModified, HttpServletRequest request,
+            long maxSize) {
+        try {
+            byte[] data = readContents(resourceUrl, maxSize);
+            if (data == null) {
+                return null;
+            }
+            long remaining = maxSize - data.length;
+
+            byte[] brotliData = null;
+            URL brotliUrl = brotliEnabled ? request.getServletContext()
+                    .getResource(filenameWithPath + ".br") : null;
+            if (brotliUrl != null) {
+                brotliData = readContents(brotliUrl, remaining);
+                if (brotliData == null) {
+                    return null;
+                }
+                remaining -= brotliData.length;
+            }
+
+            byte[] gzipData = null;
+            URL gzipUrl = request.getServletContext()
+                    .getResource(filenameWithPath + ".gz");
+            if (gzipUrl != null) {
+                gzipData = readContents(gzipUrl, remaining);
+                if (gzipData == null) {
+                    return null;
+                }
+            }
+            return new CachedResource(data, gzipData, brotliData,
+                    lastModified);
+        } catch (Exception e) {
+            getLogger().debug("Unable to read resource {} into memory",
+                    filenameWithPath, e);
+            return null;
+        }
+    }
+
+    private byte[] readContents(URL url, long maxSize) throws IOException {
+        URLConnection connection = url.openConnection();
+        try (InputStream inputStream = connection.getInputStream()) {
+            long length = connection.getContentLengthLong();
+            if (length > maxSize) {
+                return null;
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+                    length > 0 ? (int) length : bufferSize);
+            final byte[] buffer = new byte[bufferSize];
+            int bytes;
+            while ((bytes = inputStream.read(buffer)) >= 0) {
+                outputStream.write(buffer, 0, bytes);
+                if (outputStream.size() > maxSize) {
+                    return null;
+                }
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
     private void writeStream(ServletOutputStream outputStream,
             InputStream inputStream) throws IOException {
         final byte[] buffer = new byte[bufferSize];
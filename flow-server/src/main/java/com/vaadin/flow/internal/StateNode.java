@@ -123,6 +123,8 @@ public class StateNode implements Serializable {
                     .sorted(NodeFeatureRegistry.PRIORITY_COMPARATOR)
                     .forEach(key -> mappings.put(key,
                             Integer.valueOf(mappings.size())));
+
+            assert mappings.size() <= Long.SIZE : "Changed features are tracked in a long bitset";
         }
     }
 
@@ -138,7 +140,16 @@ public class StateNode implements Serializable {
      */
     private Serializable features;
 
-    private Map<Class<? extends NodeFeature>, Serializable> changes;
+    /**
+     * Bitset of the indices of the features that have a change tracker.
+     */
+    private long changedFeatures;
+
+    /**
+     * Change trackers of the features in {@link #changedFeatures}, ordered by
+     * feature index and only as long as the number of changed features.
+     */
+    private Serializable[] changeTrackers;
 
     private List<Command> attachListeners;
 
@@ -160,6 +171,8 @@ public class StateNode implements Serializable {
 
     private boolean isInitialChanges = true;
 
+    private boolean isInDirtyList;
+
     private ArrayList<StateTree.BeforeClientResponseEntry> beforeClientResponseEntries;
     private boolean enabled = true;
 
@@ -340,17 +353,25 @@ public class StateNode implements Serializable {
     }
 
     private void forEachFeature(Consumer<NodeFeature> action) {
-        getInitializedFeatures().forEach(action::accept);
+        if (features instanceof NodeFeature) {
+            action.accept((NodeFeature) features);
+        } else if (features instanceof NodeFeature[]) {
+            for (NodeFeature feature : (NodeFeature[]) features) {
+                if (feature != null) {
+                    action.accept(feature);
+                }
+            }
+        }
     }
 
-    private Stream<NodeFeature> getInitializedFeatures() {
-        if (features == null) {
-            return Stream.empty();
-        } else if (features instanceof NodeFeature) {
-            return Stream.of((NodeFeature) features);
-        } else {
-            return Stream.of((NodeFeature[]) features).filter(Objects::nonNull);
+    private NodeFeature getInitializedFeature(int featureIndex) {
+        if (features instanceof NodeFeature) {
+            assert featureIndex == 0;
+            return (NodeFeature) features;
         }
+        NodeFeature feature = ((NodeFeature[]) features)[featureIndex];
+        assert feature != null;
+        return feature;
     }
 
     /**
@@ -510,6 +531,28 @@ public class StateNode implements Serializable {
         owner.markAsDirty(this);
     }
 
+    /**
+     * Checks whether this node is in the dirty node list of its state tree.
+     *
+     * @return <code>true</code> if the node is in the dirty node list,
+     *         otherwise <code>false</code>
+     */
+    boolean isInDirtyList() {
+        return isInDirtyList;
+    }
+
+    /**
+     * Sets whether this node is in the dirty node list of its state tree.
+     * Only used by the state tree to add each node to the list only once.
+     *
+     * @param isInDirtyList
+     *            <code>true</code> if the node has been added to the dirty node
+     *            list, <code>false</code> if it has been removed
+     */
+    void setInDirtyList(boolean isInDirtyList) {
+        this.isInDirtyList = isInDirtyList;
+    }
+
     /**
      * Checks whether this node is attached to a state tree.
      *
@@ -560,36 +603,79 @@ public class StateNode implements Serializable {
         if (!isAttached()) {
             return;
         }
-        if (isInactive()) {
-            if (isInitialChanges) {
-                // send only required (reported) features updates
-                Stream<NodeFeature> initialFeatures = Stream
-                        .concat(featureSet.mappings.keySet().stream()
-                                .filter(this::isReportedFeature)
-                                .map(this::getFeature), getDisalowFeatures());
-                doCollectChanges(collector, initialFeatures);
-            } else {
-                doCollectChanges(collector, getDisalowFeatures());
+        // Change trackers only exist for initialized features
+        long collectedFeatures = 0;
+        long remaining = changedFeatures;
+        boolean inactive = isInactive();
+        while (remaining != 0) {
+            int featureIndex = Long.numberOfTrailingZeros(remaining);
+            NodeFeature feature = getInitializedFeature(featureIndex);
+            // An inactive node only sends the features that disallow changes,
+            // and the required (reported) features initially
+            if (!inactive || !feature.allowsChanges() || (isInitialChanges
+                    && isReportedFeature(feature.getClass()))) {
+                feature.collectChanges(collector);
+                collectedFeatures |= 1L << featureIndex;
             }
-        } else {
-            doCollectChanges(collector, getInitializedFeatures());
+            // Clear the lowest set bit
+            remaining &= remaining - 1;
         }
+        removeChangeTrackers(collectedFeatures);
+        isInitialChanges = false;
     }
 
-    private void doCollectChanges(Consumer<NodeChange> collector,
-            Stream<NodeFeature> features) {
-        features.filter(this::hasChangeTracker).forEach(feature -> {
-            feature.collectChanges(collector);
-            changes.remove(feature.getClass());
-        });
-        isInitialChanges = false;
-        if (changes != null && changes.isEmpty()) {
-            changes = null;
+    private void removeChangeTrackers(long featureBits) {
+        long remainingFeatures = changedFeatures & ~featureBits;
+        if (remainingFeatures == 0) {
+            clearChanges();
+            return;
+        } else if (remainingFeatures == changedFeatures) {
+            return;
         }
+
+        Serializable[] remainingTrackers = new Serializable[Long
+                .bitCount(remainingFeatures)];
+        int position = 0;
+        int remainingPosition = 0;
+        for (long bits = changedFeatures; bits != 0; bits &= bits - 1) {
+            if ((remainingFeatures & Long.lowestOneBit(bits)) != 0) {
+                remainingTrackers[remainingPosition++] = changeTrackers[position];
+            }
+            position++;
+        }
+        changedFeatures = remainingFeatures;
+        changeTrackers = remainingTrackers;
     }
 
-    private boolean hasChangeTracker(NodeFeature nodeFeature) {
-        return changes != null && changes.containsKey(nodeFeature.getClass());
+    private int getChangeTrackerPosition(long featureBit) {
+        // The number of changed features with a lower index
+        return Long.bitCount(changedFeatures & (featureBit - 1));
+    }
+
+    /**
+     * Prepares this node for resynchronizing the client side. After this, the
+     * next {@link #collectChanges(Consumer)} reports the full state of the node
+     * as if the client had never seen it.
+     *
+     * @see StateTree#prepareForResync()
+     */
+    void prepareForResync() {
+        isInitialChanges = true;
+        if (!isAttached()) {
+            // The client will not know about the node, so there is nothing to
+            // detach
+            wasAttached = false;
+        } else if (getParent() == null) {
+            // The root node is always present on the client, so report its
+            // full state as changes instead of as an attach
+            clearChanges();
+            forEachFeature(NodeFeature::generateChangesFromEmpty);
+            markAsDirty();
+        } else {
+            // Report the node as recently attached
+            wasAttached = false;
+            markAsDirty();
+        }
     }
 
     /**
@@ -597,7 +683,8 @@ public class StateNode implements Serializable {
      * testing purposes.
      */
     public void clearChanges() {
-        changes = null;
+        changedFeatures = 0;
+        changeTrackers = null;
     }
 
     /**
@@ -784,12 +871,26 @@ public class StateNode implements Serializable {
     @SuppressWarnings("unchecked")
     public <T extends Serializable> T getChangeTracker(NodeFeature feature,
             Supplier<T> factory) {
-        if (changes == null) {
-            changes = new HashMap<>();
+        long bit = 1L << getFeatureIndex(feature.getClass());
+        int position = getChangeTrackerPosition(bit);
+        if ((changedFeatures & bit) != 0) {
+            return (T) changeTrackers[position];
         }
 
-        return (T) changes.computeIfAbsent(feature.getClass(),
-                k -> factory.get());
+        T tracker = factory.get();
+        if (changeTrackers == null) {
+            changeTrackers = new Serializable[] { tracker };
+        } else {
+            Serializable[] newTrackers = new Serializable[changeTrackers.length
+                    + 1];
+            System.arraycopy(changeTrackers, 0, newTrackers, 0, position);
+            newTrackers[position] = tracker;
+            System.arraycopy(changeTrackers, position, newTrackers,
+                    position + 1, changeTrackers.length - position);
+            changeTrackers = newTrackers;
+        }
+        changedFeatures |= bit;
+        return tracker;
     }
 
     /**
@@ -851,7 +952,7 @@ public class StateNode implements Serializable {
      * @see NodeFeature#allowsChanges()
      */
     public void updateActiveState() {
-        setInactive(getDisalowFeatures().count() != 0);
+        setInactive(hasDisallowFeature());
     }
 
     /**
@@ -868,9 +969,17 @@ public class StateNode implements Serializable {
         return getParent().isInactive();
     }
 
-    private Stream<NodeFeature> getDisalowFeatures() {
-        return getInitializedFeatures()
-                .filter(feature -> !feature.allowsChanges());
+    private boolean hasDisallowFeature() {
+        if (features instanceof NodeFeature) {
+            return !((NodeFeature) features).allowsChanges();
+        } else if (features instanceof NodeFeature[]) {
+            for (NodeFeature feature : (NodeFeature[]) features) {
+                if (feature != null && !feature.allowsChanges()) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     private void setInactive(boolean inactive) {
@@ -17,13 +17,12 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -44,6 +43,8 @@ import com.vaadin.flow.shared.Registration;
  */
 public class StateTree implements NodeOwner {
 
+    private static final int MAX_RECYCLED_DIRTY_NODES = 1000;
+
     private final class RootNode extends StateNode {
         private RootNode(Class<? extends NodeFeature>[] features) {
             super(features);
@@ -121,9 +122,15 @@ public class StateTree implements NodeOwner {
         void remove();
     }
 
-    private Set<StateNode> dirtyNodes = new LinkedHashSet<>();
+    /*
+     * Nodes in the order they were marked as dirty. Nodes keep track of
+     * whether they are already in the list, so no set is needed. The lists are
+     * swapped and reused between round trips to avoid reallocating them.
+     */
+    private ArrayList<StateNode> dirtyNodes = new ArrayList<>();
+    private ArrayList<StateNode> spareDirtyNodes = new ArrayList<>();
 
-    private final Map<Integer, StateNode> idToNode = new HashMap<>();
+    private final IntObjectMap<StateNode> idToNode = new IntObjectMap<>();
 
     private int nextId = 1;
 
@@ -192,7 +199,7 @@ public class StateTree implements NodeOwner {
     public void unregister(StateNode node) {
         assert node.getOwner() == this;
 
-        Integer id = node.getId();
+        int id = node.getId();
 
         StateNode removedNode = idToNode.remove(id);
 
@@ -236,20 +243,19 @@ public class StateTree implements NodeOwner {
      *            a consumer accepting node changes
      */
     public void collectChanges(Consumer<NodeChange> collector) {
-        Set<StateNode> allDirtyNodes = new LinkedHashSet<>();
-        boolean evaluateNewDirtyNodes = true;
-
-        // The updateActiveState method can create new dirty nodes, so they need
-        // to be collected as well
-        while (evaluateNewDirtyNodes) {
-            Set<StateNode> dirtyNodesSet = collectDirtyNodes();
-            dirtyNodesSet.forEach(StateNode::updateActiveState);
-            evaluateNewDirtyNodes = allDirtyNodes.addAll(dirtyNodesSet);
+        // The updateActiveState method can create new dirty nodes. They are
+        // appended to the list, so the loop also visits them.
+        for (int i = 0; i < dirtyNodes.size(); i++) {
+            dirtyNodes.get(i).updateActiveState();
         }
 
         // TODO fire preCollect events
 
-        allDirtyNodes.forEach(node -> node.collectChanges(collector));
+        List<StateNode> allDirtyNodes = takeDirtyNodes();
+        for (int i = 0; i < allDirtyNodes.size(); i++) {
+            allDirtyNodes.get(i).collectChanges(collector);
+        }
+        recycleDirtyNodes(allDirtyNodes);
     }
 
     @Override
@@ -257,7 +263,35 @@ public class StateTree implements NodeOwner {
         assert node.getOwner() == this;
         checkHasLock();
 
-        dirtyNodes.add(node);
+        if (!node.isInDirtyList()) {
+            node.setInDirtyList(true);
+            dirtyNodes.add(node);
+        }
+    }
+
+    /**
+     * Replaces the dirty node list with an empty one and returns the previous
+     * list. Nodes marked as dirty after this are added to the new list.
+     */
+    private ArrayList<StateNode> takeDirtyNodes() {
+        ArrayList<StateNode> takenNodes = dirtyNodes;
+        dirtyNodes = spareDirtyNodes != null ? spareDirtyNodes
+                : new ArrayList<>();
+        spareDirtyNodes = null;
+        for (int i = 0; i < takenNodes.size(); i++) {
+            takenNodes.get(i).setInDirtyList(false);
+        }
+        return takenNodes;
+    }
+
+    private void recycleDirtyNodes(ArrayList<StateNode> takenNodes) {
+        if (takenNodes.size() > MAX_RECYCLED_DIRTY_NODES) {
+            // Don't keep a large backing array alive between round trips
+            spareDirtyNodes = new ArrayList<>();
+        } else {
+            takenNodes.clear();
+            spareDirtyNodes = takenNodes;
+        }
     }
 
     /**
@@ -267,8 +301,10 @@ public class StateTree implements NodeOwner {
      * @return a set of dirty nodes, in the order they were marked dirty
      */
     public Set<StateNode> collectDirtyNodes() {
-        Set<StateNode> collectedNodes = dirtyNodes;
-        dirtyNodes = new LinkedHashSet<>();
+        ArrayList<StateNode> takenNodes = takeDirtyNodes();
+        // Copied since the returned set outlives the recycled list
+        Set<StateNode> collectedNodes = new LinkedHashSet<>(takenNodes);
+        recycleDirtyNodes(takenNodes);
         return collectedNodes;
     }
 
@@ -282,6 +318,25 @@ public class StateTree implements NodeOwner {
         return !dirtyNodes.isEmpty();
     }
 
+    /**
+     * Prepares the tree for resynchronizing the client side. The client discards
+     * all nodes except the root node when it is resynchronized, so after this
+     * the next {@link #collectChanges(Consumer)} reports every attached node as
+     * newly attached and the root node with its full state. No changes are
+     * reported for nodes that have been detached since the last time changes
+     * were collected.
+     */
+    public void prepareForResync() {
+        checkHasLock();
+
+        ArrayList<StateNode> takenNodes = takeDirtyNodes();
+        for (int i = 0; i < takenNodes.size(); i++) {
+            takenNodes.get(i).prepareForResync();
+        }
+        recycleDirtyNodes(takenNodes);
+        rootNode.visitNodeTree(StateNode::prepareForResync);
+    }
+
     /**
      * Gets the {@link UI} that this tree belongs to.
      *
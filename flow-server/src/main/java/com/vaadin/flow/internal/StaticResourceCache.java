@@ -0,0 +1,217 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded in-memory cache for the contents of static resources.
+ * <p>
+ * The total size of the cached contents, including precompressed variants, is
+ * kept below the configured maximum by evicting the least recently used
+ * resources. All methods are thread-safe.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class StaticResourceCache implements Serializable {
+
+    /**
+     * The in-memory contents of a static resource.
+     */
+    public static class CachedResource implements Serializable {
+        private final byte[] data;
+        private final byte[] gzipData;
+        private final byte[] brotliData;
+        private final long lastModified;
+        private final String eTag;
+
+        /**
+         * Creates a new cached resource.
+         *
+         * @param data
+         *            the uncompressed contents, not <code>null</code>
+         * @param gzipData
+         *            the gzip compressed contents, or <code>null</code> if not
+         *            available
+         * @param brotliData
+         *            the Brotli compressed contents, or <code>null</code> if
+         *            not available
+         * @param lastModified
+         *            the last modification timestamp, or <code>-1</code> if
+         *            not known
+         */
+        public CachedResource(byte[] data, byte[] gzipData, byte[] brotliData,
+                long lastModified) {
+            assert data != null;
+            this.data = data;
+            this.gzipData = gzipData;
+            this.brotliData = brotliData;
+            this.lastModified = lastModified;
+            // The tag is weak since it is shared by all content encodings
+            eTag = "W/\"" + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MessageDigestUtil.sha256(data)) + '"';
+        }
+
+        /**
+         * Gets the uncompressed contents.
+         *
+         * @return the uncompressed contents
+         */
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Gets the gzip compressed contents.
+         *
+         * @return the gzip compressed contents, or <code>null</code> if not
+         *         available
+         */
+        public byte[] getGzipData() {
+            return gzipData;
+        }
+
+        /**
+         * Gets the Brotli compressed contents.
+         *
+         * @return the Brotli compressed contents, or <code>null</code> if not
+         *         available
+         */
+        public byte[] getBrotliData() {
+            return brotliData;
+        }
+
+        /**
+         * Gets the last modification timestamp.
+         *
+         * @return the last modification timestamp, or <code>-1</code> if not
+         *         known
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Gets the weak entity tag derived from a hash of the contents,
+         * formatted as the value of the "ETag" header.
+         *
+         * @return the entity tag
+         */
+        public String getETag() {
+            return eTag;
+        }
+
+        private long getSize() {
+            return data.length + (gzipData == null ? 0 : gzipData.length)
+                    + (brotliData == null ? 0 : brotliData.length);
+        }
+    }
+
+    private final long maxSize;
+
+    private final LinkedHashMap<String, CachedResource> resources = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    private long size;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize
+     *            the maximum total size of the cached contents in bytes
+     */
+    public StaticResourceCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum size of a single resource accepted by
+     * {@link #put(String, CachedResource)}, including the precompressed
+     * variants. Larger resources should not be loaded into memory.
+     *
+     * @return the maximum resource size in bytes
+     */
+    public long getMaxResourceSize() {
+        return maxSize / 4;
+    }
+
+    /**
+     * Gets the cached contents of a resource.
+     *
+     * @param path
+     *            the path of the resource
+     * @return the cached resource, or <code>null</code> if not cached
+     */
+    public synchronized CachedResource get(String path) {
+        return resources.get(path);
+    }
+
+    /**
+     * Stores the contents of a resource, evicting the least recently used
+     * resources as needed. Resources larger than
+     * {@link #getMaxResourceSize()} are not stored.
+     *
+     * @param path
+     *            the path of the resource
+     * @param resource
+     *            the contents of the resource
+     */
+    public synchronized void put(String path, CachedResource resource) {
+        long resourceSize = resource.getSize();
+        if (resourceSize > getMaxResourceSize()) {
+            return;
+        }
+        CachedResource previous = resources.put(path, resource);
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+        size += resourceSize;
+
+        Iterator<Map.Entry<String, CachedResource>> iterator = resources
+                .entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedResource> eldest = iterator.next();
+            if (eldest.getValue() != resource) {
+                size -= eldest.getValue().getSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all resources from the cache.
+     */
+    public synchronized void clear() {
+        resources.clear();
+        size = 0;
+    }
+
+    /**
+     * Gets the total size of the cached contents.
+     *
+     * @return the size of the cached contents in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+}
@@ -17,13 +17,19 @@
 package com.vaadin.flow.internal.nodefeature;
 
 import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -44,6 +50,31 @@ public abstract class NodeMap extends NodeFeature {
     private static final Serializable REMOVED_MARKER = new UniqueSerializable() {
     };
 
+    /**
+     * The maximum number of values stored in {@link ArrayValues} before
+     * switching to {@link HashMapValues}. Most nodes only have a few values,
+     * for which a linear search is as fast as hashing.
+     */
+    private static final int MAX_ARRAY_VALUES = 8;
+
+    /**
+     * The maximum number of keys shared between the maps of one type. Keys may
+     * come from application data, so the tables are not allowed to grow
+     * without limit.
+     */
+    private static final int MAX_SHARED_KEYS = 1024;
+
+    /**
+     * Key tables per map type, so that nodes with the same property names
+     * share the key strings instead of each holding their own copies.
+     */
+    private static final ClassValue<Map<String, String>> SHARED_KEYS = new ClassValue<Map<String, String>>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private interface Values extends Serializable {
         int size();
 
@@ -62,11 +93,14 @@ public abstract class NodeMap extends NodeFeature {
         // Named set instead of put to avoid incompatibility with HashMap where
         // put returns the previous value
         void set(String key, Serializable value);
+
+        Serializable remove(String key);
     }
 
     private static class SingleValue implements Values {
 
-        private final String key;
+        // null after the value has been removed
+        private String key;
 
         private Serializable value;
 
@@ -78,7 +112,7 @@ public abstract class NodeMap extends NodeFeature {
 
         @Override
         public int size() {
-            return 1;
+            return key == null ? 0 : 1;
         }
 
         @Override
@@ -92,17 +126,18 @@ public abstract class NodeMap extends NodeFeature {
 
         @Override
         public Set<String> keySet() {
-            return Collections.singleton(key);
+            return key == null ? Collections.emptySet()
+                    : Collections.singleton(key);
         }
 
         @Override
         public boolean containsKey(String key) {
-            return this.key.equals(key);
+            return this.key != null && this.key.equals(key);
         }
 
         @Override
         public Stream<Serializable> streamValues() {
-            return Stream.of(value);
+            return key == null ? Stream.empty() : Stream.of(value);
         }
 
         @Override
@@ -110,6 +145,135 @@ public abstract class NodeMap extends NodeFeature {
             assert key.equals(this.key);
             this.value = value;
         }
+
+        @Override
+        public Serializable remove(String key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            Serializable oldValue = value;
+            this.key = null;
+            value = null;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Stores a few values in two parallel arrays that are searched linearly.
+     * The arrays grow by doubling up to {@link #MAX_ARRAY_VALUES}.
+     */
+    private static class ArrayValues implements Values {
+        private String[] keys;
+        private Serializable[] values;
+        private int size;
+
+        public ArrayValues(Values previousValues) {
+            int previousSize = previousValues.size();
+            keys = new String[previousSize + 1];
+            values = new Serializable[previousSize + 1];
+            previousValues.keySet()
+                    .forEach(key -> set(key, previousValues.get(key)));
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Serializable get(String key) {
+            int index = indexOf(key);
+            return index == -1 ? null : values[index];
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new Iterator<String>() {
+                        private final int expectedSize = size;
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < expectedSize;
+                        }
+
+                        @Override
+                        public String next() {
+                            if (expectedSize != size) {
+                                throw new ConcurrentModificationException();
+                            } else if (index >= expectedSize) {
+                                throw new NoSuchElementException();
+                            }
+                            return keys[index++];
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return o instanceof String && containsKey((String) o);
+                }
+            };
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return indexOf(key) != -1;
+        }
+
+        @Override
+        public Stream<Serializable> streamValues() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        @Override
+        public void set(String key, Serializable value) {
+            int index = indexOf(key);
+            if (index != -1) {
+                values[index] = value;
+                return;
+            }
+            if (size == keys.length) {
+                int capacity = Math.min(size * 2, MAX_ARRAY_VALUES);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+
+        @Override
+        public Serializable remove(String key) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return null;
+            }
+            Serializable oldValue = values[index];
+            size--;
+            System.arraycopy(keys, index + 1, keys, index, size - index);
+            System.arraycopy(values, index + 1, values, index, size - index);
+            keys[size] = null;
+            values[size] = null;
+            return oldValue;
+        }
     }
 
     private static class HashMapValues extends HashMap<String, Serializable>
@@ -142,6 +306,11 @@ public abstract class NodeMap extends NodeFeature {
         public Stream<Serializable> streamValues() {
             return super.values().stream();
         }
+
+        @Override
+        public Serializable remove(String key) {
+            return super.remove(key);
+        }
     }
 
     private Values values;
@@ -199,12 +368,17 @@ public abstract class NodeMap extends NodeFeature {
 
         // Optimize memory use when there's only one key
         if (values == null) {
-            values = new SingleValue(key, value);
+            values = new SingleValue(shareKey(key), value);
+        } else if (values.containsKey(key)) {
+            values.set(key, value);
         } else {
-            if (values instanceof SingleValue && !values.containsKey(key)) {
+            if (values instanceof SingleValue) {
+                values = new ArrayValues(values);
+            } else if (values instanceof ArrayValues
+                    && values.size() == MAX_ARRAY_VALUES) {
                 values = new HashMapValues(values);
             }
-            values.set(key, value);
+            values.set(shareKey(key), value);
         }
 
         detatchPotentialChild(oldValue);
@@ -214,6 +388,23 @@ public abstract class NodeMap extends NodeFeature {
         return oldValue;
     }
 
+    /**
+     * Gets the instance of the key that is shared by the maps of this type.
+     * Only called when a key is added, not when a value is updated.
+     */
+    private String shareKey(String key) {
+        Map<String, String> sharedKeys = SHARED_KEYS.get(getClass());
+        String sharedKey = sharedKeys.get(key);
+        if (sharedKey != null) {
+            return sharedKey;
+        }
+        if (sharedKeys.size() >= MAX_SHARED_KEYS) {
+            return key;
+        }
+        sharedKey = sharedKeys.putIfAbsent(key, key);
+        return sharedKey == null ? key : sharedKey;
+    }
+
     /**
      * Gets the value corresponding to the given key.
      *
@@ -343,19 +534,11 @@ public abstract class NodeMap extends NodeFeature {
 
         if (values == null) {
             return null;
-        } else if (values instanceof SingleValue) {
-            oldValue = values.get(key);
-            if (values.containsKey(key)) {
-                values = null;
-            }
-        } else {
-            assert values instanceof HashMapValues;
-            HashMapValues hashMapValues = (HashMapValues) values;
-            oldValue = hashMapValues.remove(key);
+        }
 
-            if (hashMapValues.isEmpty()) {
-                values = null;
-            }
+        oldValue = values.remove(key);
+        if (values.isEmpty()) {
+            values = null;
         }
 
         detatchPotentialChild(oldValue);
@@ -164,4 +164,15 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
     public void setPushConnectionFactory(PushConnectionFactory factory) {
         throw new UnsupportedOperationException("Setting push connection factory is not supported");
     }
+
+    @Override
+    public void setMinimumPushInterval(long minimumPushInterval) {
+        throw new UnsupportedOperationException(
+                "Setting minimum push interval is not supported");
+    }
+
+    @Override
+    public long getMinimumPushInterval() {
+        return 0;
+    }
 }
@@ -252,6 +252,19 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
         return Collections.emptyList();
     }
 
+    /**
+     * Find the route for the given location segments. The route with the
+     * longest path that has a navigation target for the remaining segments is
+     * returned, together with the parent layout chain of the target.
+     *
+     * @param segments
+     *         location segments to find a route for, not <code>null</code>
+     * @return {@link Optional} containing the matched route if found
+     */
+    public Optional<RouteMatch> getRouteMatch(List<String> segments) {
+        return getConfiguration().getRouteMatch(segments);
+    }
+
     private List<Class<?>> getRouteParameters(
             Class<? extends Component> target) {
         List<Class<?>> parameters = new ArrayList<>();
@@ -16,10 +16,10 @@
 package com.vaadin.flow.router.internal;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.server.startup.RouteTarget;
@@ -32,20 +32,28 @@ import com.vaadin.flow.server.startup.RouteTarget;
  * {@link ConfigureRoutes} is always mutable where as {@link ConfiguredRoutes}
  * is always
  * immutable.
+ * <p>
+ * The route data is kept in persistent maps that share their structure with
+ * the original configuration. A route target is copied only when it is
+ * changed, so editing a large configuration costs in proportion to the number
+ * of changed routes.
  */
 public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
 
-    private final Map<String, RouteTarget> routeMap;
-    private final Map<Class<? extends Component>, String> targetRouteMap;
-    private final Map<Class<? extends Exception>, Class<? extends Component>> exceptionTargetMap;
+    private PersistentHashMap<String, RouteTarget> routeMap;
+    private PersistentHashMap<Class<? extends Component>, String> targetRouteMap;
+    private PersistentHashMap<Class<? extends Exception>, Class<? extends Component>> exceptionTargetMap;
+    private RouteSegmentTrie baseRouteTrie;
+    private final Set<String> changedPaths = new HashSet<>();
 
     /**
      * Create an immutable RouteConfiguration.
      */
     public ConfigureRoutes() {
-        routeMap = new HashMap<>();
-        targetRouteMap = new HashMap<>();
-        exceptionTargetMap = new HashMap<>();
+        routeMap = PersistentHashMap.empty();
+        targetRouteMap = PersistentHashMap.empty();
+        exceptionTargetMap = PersistentHashMap.empty();
+        baseRouteTrie = new RouteSegmentTrie(routeMap);
     }
 
     /**
@@ -56,26 +64,22 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      *         original configuration to get data from
      */
     public ConfigureRoutes(ConfiguredRoutes original) {
-        Map<String, RouteTarget> routesMap = new HashMap<>();
-        Map<Class<? extends Component>, String> targetRoutesMap = new HashMap<>();
-        Map<Class<? extends Exception>, Class<? extends Component>> exceptionTargetsMap = new HashMap<>();
-
-        for (Map.Entry<String, RouteTarget> route : original.getRoutesMap()
-                .entrySet()) {
-            routesMap.put(route.getKey(), route.getValue().copy(true));
-        }
-        targetRoutesMap.putAll(original.getTargetRoutes());
-        exceptionTargetsMap.putAll(original.getExceptionHandlers());
-
-        this.routeMap = routesMap;
-        this.targetRouteMap = targetRoutesMap;
-        this.exceptionTargetMap = exceptionTargetsMap;
+        // Never share the mutable route targets of another editor
+        ConfiguredRoutes source = original instanceof ConfigureRoutes ?
+                new ConfiguredRoutes((ConfigureRoutes) original) :
+                original;
+        this.routeMap = PersistentHashMap.copyOf(source.getRoutesMap());
+        this.targetRouteMap = PersistentHashMap
+                .copyOf(source.getTargetRoutes());
+        this.exceptionTargetMap = PersistentHashMap
+                .copyOf(source.getExceptionHandlers());
+        this.baseRouteTrie = source.getRouteTrie();
     }
 
     /**
      * Override so that the getters use the correct routes map for data.
      *
-     * @return editable map of routes
+     * @return read only map of the current routes
      */
     @Override
     protected Map<String, RouteTarget> getRoutesMap() {
@@ -85,7 +89,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
     /**
      * Override so that the getters use the correct target routes map for data.
      *
-     * @return editable map of targetRoutes
+     * @return read only map of the current targetRoutes
      */
     @Override
     public Map<Class<? extends Component>, String> getTargetRoutes() {
@@ -96,13 +100,51 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      * Override so that the getters use the correct exception targets map for
      * data.
      *
-     * @return editable map of exception targets
+     * @return read only map of the current exception targets
      */
     @Override
     public Map<Class<? extends Exception>, Class<? extends Component>> getExceptionHandlers() {
         return exceptionTargetMap;
     }
 
+    /**
+     * Override so that routes are matched against the edited routes. The
+     * route trie of the original configuration is updated with the changed
+     * routes.
+     *
+     * @return the route trie for the current routes
+     */
+    @Override
+    RouteSegmentTrie getRouteTrie() {
+        RouteSegmentTrie trie = baseRouteTrie;
+        for (String path : changedPaths) {
+            RouteTarget routeTarget = routeMap.get(path);
+            trie = routeTarget == null ? trie.without(path)
+                    : trie.with(path, routeTarget);
+        }
+        return trie;
+    }
+
+    /**
+     * Get the route trie of the configuration this configuration was created
+     * from, not containing the changes in {@link #getChangedPaths()}.
+     *
+     * @return the route trie of the original configuration
+     */
+    RouteSegmentTrie getBaseRouteTrie() {
+        return baseRouteTrie;
+    }
+
+    /**
+     * Get the paths that have been added, changed or removed after this
+     * configuration was created.
+     *
+     * @return the changed paths
+     */
+    Set<String> getChangedPaths() {
+        return Collections.unmodifiableSet(changedPaths);
+    }
+
     /*-----------------------------------*/
     /* Mutation functions                */
     /*-----------------------------------*/
@@ -111,8 +153,10 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      * Clear all maps from this configuration.
      */
     public void clear() {
-        getRoutesMap().clear();
-        getTargetRoutes().clear();
+        routeMap = PersistentHashMap.empty();
+        targetRouteMap = PersistentHashMap.empty();
+        baseRouteTrie = new RouteSegmentTrie(routeMap);
+        changedPaths.clear();
     }
 
     /**
@@ -128,10 +172,11 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
     public void setRoute(String path,
             Class<? extends Component> navigationTarget) {
         if (hasRoute(path)) {
-            getRoutesMap().get(path).addRoute(navigationTarget);
+            getEditableRouteTarget(path).addRoute(navigationTarget);
         } else {
-            getRoutesMap().computeIfAbsent(path,
-                    key -> new RouteTarget(navigationTarget, true));
+            routeMap = routeMap.with(path,
+                    new RouteTarget(navigationTarget, true));
+            changedPaths.add(path);
         }
     }
 
@@ -148,7 +193,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      */
     public void setTargetRoute(Class<? extends Component> navigationTarget,
             String path) {
-        getTargetRoutes().put(navigationTarget, path);
+        targetRouteMap = targetRouteMap.with(navigationTarget, path);
     }
 
     /**
@@ -164,7 +209,7 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      */
     public void setErrorRoute(Class<? extends Exception> exception,
             Class<? extends Component> errorTarget) {
-        getExceptionHandlers().put(exception, errorTarget);
+        exceptionTargetMap = exceptionTargetMap.with(exception, errorTarget);
     }
 
     /**
@@ -179,19 +224,18 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         }
 
         // Remove target route from class-to-string map
-        getTargetRoutes().remove(targetRoute);
+        targetRouteMap = targetRouteMap.without(targetRoute);
 
-        List<String> emptyRoutes = new ArrayList<>();
         // Remove all instances of the route class for any path
         // that it may be registered to
-        getRoutesMap().forEach((route, routeTarget) -> {
+        for (String route : getRoutePaths(targetRoute)) {
+            RouteTarget routeTarget = getEditableRouteTarget(route);
             routeTarget.remove(targetRoute);
 
             if (routeTarget.isEmpty()) {
-                emptyRoutes.add(route);
+                routeMap = routeMap.without(route);
             }
-        });
-        emptyRoutes.forEach(getRoutesMap()::remove);
+        }
     }
 
     /**
@@ -210,7 +254,9 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
             return;
         }
 
-        RouteTarget removedRoute = getRoutesMap().remove(path);
+        RouteTarget removedRoute = routeMap.get(path);
+        routeMap = routeMap.without(path);
+        changedPaths.add(path);
         for (Class<? extends Component> targetRoute : removedRoute
                 .getRoutes()) {
             updateMainRouteTarget(targetRoute);
@@ -238,11 +284,11 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
             return;
         }
 
-        RouteTarget routeTarget = getRoutesMap().get(path);
+        RouteTarget routeTarget = getEditableRouteTarget(path);
         routeTarget.remove(targetRoute);
 
         if (routeTarget.isEmpty()) {
-            getRoutesMap().remove(path);
+            routeMap = routeMap.without(path);
         }
 
         if (getTargetRoutes().containsKey(targetRoute) && getTargetRoutes()
@@ -251,6 +297,24 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
         }
     }
 
+    /**
+     * Get the route target for the given path for editing. The route target
+     * of the original configuration is replaced with a mutable copy the first
+     * time it is edited.
+     *
+     * @param path
+     *         path of an existing route
+     * @return mutable route target for path
+     */
+    private RouteTarget getEditableRouteTarget(String path) {
+        RouteTarget routeTarget = routeMap.get(path);
+        if (changedPaths.add(path)) {
+            routeTarget = routeTarget.copy(true);
+            routeMap = routeMap.with(path, routeTarget);
+        }
+        return routeTarget;
+    }
+
     /**
      * Update the main route target for the navigationTarget if another route
      * for the class is found.
@@ -260,12 +324,13 @@ public class ConfigureRoutes extends ConfiguredRoutes implements Serializable {
      */
     private void updateMainRouteTarget(
             Class<? extends Component> navigationTarget) {
-        getTargetRoutes().remove(navigationTarget);
+        targetRouteMap = targetRouteMap.without(navigationTarget);
 
         // Update Class-to-string map with a new mapping if removed route exists for another path
         for (Map.Entry<String, RouteTarget> entry : getRoutesMap().entrySet()) {
             if (entry.getValue().containsTarget(navigationTarget)) {
-                getTargetRoutes().put(navigationTarget, entry.getKey());
+                targetRouteMap = targetRouteMap.with(navigationTarget,
+                        entry.getKey());
                 return;
             }
         }
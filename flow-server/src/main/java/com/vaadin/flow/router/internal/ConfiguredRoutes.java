@@ -17,7 +17,6 @@ package com.vaadin.flow.router.internal;
 
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,47 +35,53 @@ import com.vaadin.flow.server.startup.RouteTarget;
  */
 public class ConfiguredRoutes implements Serializable {
 
-    private final Map<String, RouteTarget> routes;
-    private final Map<Class<? extends Component>, String> targetRoutes;
-    private final Map<Class<? extends Exception>, Class<? extends Component>> exceptionTargets;
+    private final PersistentHashMap<String, RouteTarget> routes;
+    private final PersistentHashMap<Class<? extends Component>, String> targetRoutes;
+    private final PersistentHashMap<Class<? extends Exception>, Class<? extends Component>> exceptionTargets;
+    private final RouteSegmentTrie routeTrie;
 
     /**
      * Create an immutable RouteConfiguration.
      */
     public ConfiguredRoutes() {
-        routes = Collections.emptyMap();
-        targetRoutes = Collections.emptyMap();
-        exceptionTargets = Collections.emptyMap();
+        routes = PersistentHashMap.empty();
+        targetRoutes = PersistentHashMap.empty();
+        exceptionTargets = PersistentHashMap.empty();
+        routeTrie = new RouteSegmentTrie(routes);
     }
 
     /**
      * Create a mutable or immutable configuration with original configuration
      * information.
+     * <p>
+     * The structure of the original configuration is shared, so only the
+     * routes changed since the original was created are copied.
      *
      * @param original
      *         original configuration to get data from
      */
     public ConfiguredRoutes(ConfigureRoutes original) {
-        Map<String, RouteTarget> routeMap = new HashMap<>();
-        Map<Class<? extends Component>, String> targetRouteMap = new HashMap<>();
-        Map<Class<? extends Exception>, Class<? extends Component>> exceptionTargetMap = new HashMap<>();
+        PersistentHashMap<String, RouteTarget> routeMap = PersistentHashMap
+                .copyOf(original.getRoutesMap());
+        RouteSegmentTrie trie = original.getBaseRouteTrie();
 
-        for (Map.Entry<String, RouteTarget> route : original.getRoutesMap()
-                .entrySet()) {
-            routeMap.put(route.getKey(), route.getValue().copy(false));
+        for (String path : original.getChangedPaths()) {
+            RouteTarget routeTarget = routeMap.get(path);
+            if (routeTarget == null) {
+                trie = trie.without(path);
+            } else {
+                RouteTarget immutableTarget = routeTarget.copy(false);
+                routeMap = routeMap.with(path, immutableTarget);
+                trie = trie.with(path, immutableTarget);
+            }
         }
-        targetRouteMap.putAll(original.getTargetRoutes());
-        exceptionTargetMap.putAll(original.getExceptionHandlers());
 
-        this.routes = routeMap.isEmpty() ?
-                Collections.emptyMap() :
-                Collections.unmodifiableMap(routeMap);
-        this.targetRoutes = targetRouteMap.isEmpty() ?
-                Collections.emptyMap() :
-                Collections.unmodifiableMap(targetRouteMap);
-        this.exceptionTargets = exceptionTargetMap.isEmpty() ?
-                Collections.emptyMap() :
-                Collections.unmodifiableMap(exceptionTargetMap);
+        this.routes = routeMap;
+        this.targetRoutes = PersistentHashMap
+                .copyOf(original.getTargetRoutes());
+        this.exceptionTargets = PersistentHashMap
+                .copyOf(original.getExceptionHandlers());
+        this.routeTrie = trie;
     }
 
     protected Map<String, RouteTarget> getRoutesMap() {
@@ -161,6 +166,28 @@ public class ConfiguredRoutes implements Serializable {
         return Optional.empty();
     }
 
+    /**
+     * Find the route for the given location segments. The route with the
+     * longest path that has a navigation target for the remaining segments is
+     * returned.
+     *
+     * @param segments
+     *         location segments to find a route for
+     * @return {@link Optional} containing the matched route if found
+     */
+    public Optional<RouteMatch> getRouteMatch(List<String> segments) {
+        return Optional.ofNullable(getRouteTrie().match(segments));
+    }
+
+    /**
+     * Get the route trie compiled for the routes of this configuration.
+     *
+     * @return the route trie
+     */
+    RouteSegmentTrie getRouteTrie() {
+        return routeTrie;
+    }
+
     /**
      * Get all registered paths that have been registered.
      *
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable hash map that shares structure between versions. Adding or
+ * removing an entry creates a new map that reuses all the parts of the hash
+ * array mapped trie that are not on the path to the changed entry, so a
+ * change costs <code>O(log32 n)</code> instead of a copy of the whole map.
+ * <p>
+ * The map does not support the mutating methods of {@link Map}; use
+ * {@link #with(Object, Object)} and {@link #without(Object)} instead.
+ * <p>
+ * The map is serialized as a flat list of entries and the trie is rebuilt
+ * when it is deserialized, since hash codes such as those of {@link Class}
+ * keys are not the same in another JVM.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V>
+        implements Serializable {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(
+            new Node(0, new Object[0]), 0);
+
+    /**
+     * A trie node. Each set bit of the bitmap has an element in the array,
+     * either a {@link Leaf} or a child node.
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] elements;
+
+        private Node(int bitmap, Object[] elements) {
+            this.bitmap = bitmap;
+            this.elements = elements;
+        }
+    }
+
+    /**
+     * The entries with the same hash code, as alternating keys and values.
+     */
+    private static final class Leaf {
+        private final int hash;
+        private final Object[] keysAndValues;
+
+        private Leaf(int hash, Object[] keysAndValues) {
+            this.hash = hash;
+            this.keysAndValues = keysAndValues;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                if (keysAndValues[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * The serialized form of a map, containing its entries as alternating
+     * keys and values.
+     */
+    private static final class SerializedForm implements Serializable {
+        private final Object[] keysAndValues;
+
+        private SerializedForm(Object[] keysAndValues) {
+            this.keysAndValues = keysAndValues;
+        }
+
+        private Object readResolve() {
+            PersistentHashMap<Object, Object> map = empty();
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                map = map.with(keysAndValues[i], keysAndValues[i + 1]);
+            }
+            return map;
+        }
+    }
+
+    private final transient Node root;
+    private final transient int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty map.
+     *
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @return an empty map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Gets a persistent map with the entries of the given map. If the map is
+     * already a persistent map, it is returned as is.
+     *
+     * @param map
+     *            the map to copy, not <code>null</code>
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @return a persistent map with the same entries
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> copyOf(Map<K, V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+        PersistentHashMap<K, V> copy = empty();
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            copy = copy.with(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * Gets a map with the given entry added to the entries of this map,
+     * replacing any existing value for the key.
+     *
+     * @param key
+     *            the key, not <code>null</code>
+     * @param value
+     *            the value, not <code>null</code>
+     * @return a map with the entry, or this map if it already has the same
+     *         value for the key
+     */
+    PersistentHashMap<K, V> with(K key, V value) {
+        int hash = hash(key);
+        boolean added = !containsKey(key);
+        Node newRoot = put(root, 0, hash, key, value);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added ? size + 1 : size);
+    }
+
+    /**
+     * Gets a map without the entry for the given key.
+     *
+     * @param key
+     *            the key to remove
+     * @return a map without the key, or this map if it does not contain the
+     *         key
+     */
+    PersistentHashMap<K, V> without(Object key) {
+        if (key == null || !containsKey(key)) {
+            return this;
+        }
+        Node newRoot = remove(root, 0, hash(key), key);
+        if (newRoot == null) {
+            return empty();
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findLeaf(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        Leaf leaf = findLeaf(key);
+        if (leaf == null) {
+            return null;
+        }
+        return (V) leaf.keysAndValues[leaf.indexOf(key) + 1];
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                List<Map.Entry<K, V>> entries = new ArrayList<>(size);
+                collect(root, entries);
+                return Collections.unmodifiableList(entries).iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Leaf findLeaf(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = hash(key);
+        Node node = root;
+        for (int shift = 0;; shift += BITS) {
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object element = node.elements[index(node.bitmap, bit)];
+            if (element instanceof Leaf) {
+                Leaf leaf = (Leaf) element;
+                return leaf.hash == hash && leaf.indexOf(key) >= 0 ? leaf
+                        : null;
+            }
+            node = (Node) element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(Node node, List<Map.Entry<K, V>> entries) {
+        for (Object element : node.elements) {
+            if (element instanceof Leaf) {
+                Object[] keysAndValues = ((Leaf) element).keysAndValues;
+                for (int i = 0; i < keysAndValues.length; i += 2) {
+                    entries.add(new SimpleImmutableEntry<>(
+                            (K) keysAndValues[i], (V) keysAndValues[i + 1]));
+                }
+            } else {
+                collect((Node) element, entries);
+            }
+        }
+    }
+
+    private static Node put(Node node, int shift, int hash, Object key,
+            Object value) {
+        int bit = bit(hash, shift);
+        int index = index(node.bitmap, bit);
+        if ((node.bitmap & bit) == 0) {
+            return new Node(node.bitmap | bit, insert(node.elements, index,
+                    new Leaf(hash, new Object[] { key, value })));
+        }
+
+        Object element = node.elements[index];
+        Object newElement;
+        if (element instanceof Node) {
+            newElement = put((Node) element, shift + BITS, hash, key, value);
+        } else {
+            Leaf leaf = (Leaf) element;
+            if (leaf.hash != hash) {
+                newElement = merge(leaf,
+                        new Leaf(hash, new Object[] { key, value }),
+                        shift + BITS);
+            } else {
+                newElement = putInLeaf(leaf, key, value);
+            }
+        }
+        if (newElement == element) {
+            return node;
+        }
+        return new Node(node.bitmap, replace(node.elements, index, newElement));
+    }
+
+    private static Leaf putInLeaf(Leaf leaf, Object key, Object value) {
+        int i = leaf.indexOf(key);
+        Object[] keysAndValues;
+        if (i < 0) {
+            keysAndValues = new Object[leaf.keysAndValues.length + 2];
+            System.arraycopy(leaf.keysAndValues, 0, keysAndValues, 0,
+                    leaf.keysAndValues.length);
+            keysAndValues[leaf.keysAndValues.length] = key;
+            keysAndValues[leaf.keysAndValues.length + 1] = value;
+        } else if (leaf.keysAndValues[i + 1] == value) {
+            return leaf;
+        } else {
+            keysAndValues = leaf.keysAndValues.clone();
+            keysAndValues[i + 1] = value;
+        }
+        return new Leaf(leaf.hash, keysAndValues);
+    }
+
+    private static Node merge(Leaf first, Leaf second, int shift) {
+        int firstBit = bit(first.hash, shift);
+        int secondBit = bit(second.hash, shift);
+        if (firstBit == secondBit) {
+            return new Node(firstBit,
+                    new Object[] { merge(first, second, shift + BITS) });
+        }
+        Object[] elements = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] { first, second }
+                : new Object[] { second, first };
+        return new Node(firstBit | secondBit, elements);
+    }
+
+    private static Node remove(Node node, int shift, int hash, Object key) {
+        int bit = bit(hash, shift);
+        int index = index(node.bitmap, bit);
+        Object element = node.elements[index];
+        Object newElement;
+        if (element instanceof Node) {
+            Node child = remove((Node) element, shift + BITS, hash, key);
+            // Inline a child that only has a single leaf left
+            newElement = child != null && child.elements.length == 1
+                    && child.elements[0] instanceof Leaf ? child.elements[0]
+                            : child;
+        } else {
+            Leaf leaf = (Leaf) element;
+            if (leaf.keysAndValues.length == 2) {
+                newElement = null;
+            } else {
+                int i = leaf.indexOf(key);
+                Object[] keysAndValues = new Object[leaf.keysAndValues.length
+                        - 2];
+                System.arraycopy(leaf.keysAndValues, 0, keysAndValues, 0, i);
+                System.arraycopy(leaf.keysAndValues, i + 2, keysAndValues, i,
+                        keysAndValues.length - i);
+                newElement = new Leaf(hash, keysAndValues);
+            }
+        }
+
+        if (newElement != null) {
+            return new Node(node.bitmap,
+                    replace(node.elements, index, newElement));
+        }
+        if (node.elements.length == 1) {
+            return null;
+        }
+        return new Node(node.bitmap & ~bit, delete(node.elements, index));
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value) {
+        Object[] copy = new Object[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static Object[] replace(Object[] array, int index, Object value) {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static Object[] delete(Object[] array, int index) {
+        Object[] copy = new Object[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index,
+                array.length - index - 1);
+        return copy;
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private Object writeReplace() {
+        Object[] keysAndValues = new Object[size * 2];
+        int i = 0;
+        for (Map.Entry<K, V> entry : entrySet()) {
+            keysAndValues[i++] = entry.getKey();
+            keysAndValues[i++] = entry.getValue();
+        }
+        return new SerializedForm(keysAndValues);
+    }
+
+    private void readObject(ObjectInputStream stream)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialized form required");
+    }
+}
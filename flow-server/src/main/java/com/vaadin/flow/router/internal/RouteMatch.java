@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.router.RouterLayout;
+
+/**
+ * The result of matching a location against the registered routes: the
+ * registered path, the navigation target for it and the parent layout chain of
+ * the target.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class RouteMatch implements Serializable {
+
+    private final String path;
+    private final Class<? extends Component> navigationTarget;
+    private final int parameterCount;
+    private final List<Class<? extends RouterLayout>> parentLayouts;
+
+    /**
+     * Creates a new route match.
+     *
+     * @param path
+     *            the registered path that matched, not <code>null</code>
+     * @param navigationTarget
+     *            the navigation target that matched, not <code>null</code>
+     * @param parameterCount
+     *            the number of location segments following the path
+     * @param parentLayouts
+     *            the parent layout chain of the navigation target, not
+     *            <code>null</code>
+     */
+    public RouteMatch(String path, Class<? extends Component> navigationTarget,
+            int parameterCount,
+            List<Class<? extends RouterLayout>> parentLayouts) {
+        this.path = path;
+        this.navigationTarget = navigationTarget;
+        this.parameterCount = parameterCount;
+        this.parentLayouts = parentLayouts;
+    }
+
+    /**
+     * Gets the registered path that matched the location.
+     *
+     * @return the matched path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the navigation target for the matched path.
+     *
+     * @return the navigation target
+     */
+    public Class<? extends Component> getNavigationTarget() {
+        return navigationTarget;
+    }
+
+    /**
+     * Gets the number of location segments following the matched path, i.e.
+     * the segments used as URL parameters.
+     *
+     * @return the number of parameter segments
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Gets the parent layout chain of the navigation target on the matched
+     * path.
+     *
+     * @return the parent layout chain, not <code>null</code>
+     */
+    public List<Class<? extends RouterLayout>> getParentLayouts() {
+        return parentLayouts;
+    }
+}
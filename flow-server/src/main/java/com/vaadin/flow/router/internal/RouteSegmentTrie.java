@@ -0,0 +1,195 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.server.startup.RouteTarget;
+
+/**
+ * A trie of path segments compiled from the routes of a
+ * {@link ConfiguredRoutes}. Matches a location to the route with the longest
+ * registered path, taking the normal, parameter, optional parameter and
+ * wildcard parameter targets of the path into account, in one pass over the
+ * location segments.
+ * <p>
+ * The trie is immutable. Adding or removing a route creates a new trie that
+ * shares all the nodes that are not on the path of the changed route.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class RouteSegmentTrie implements Serializable {
+
+    private static final Node EMPTY_NODE = new Node(
+            PersistentHashMap.empty(), null, null);
+
+    private static final class Node implements Serializable {
+        private final PersistentHashMap<String, Node> children;
+        private final String path;
+        private final RouteTarget routeTarget;
+
+        private Node(PersistentHashMap<String, Node> children, String path,
+                RouteTarget routeTarget) {
+            this.children = children;
+            this.path = path;
+            this.routeTarget = routeTarget;
+        }
+
+        private boolean isEmpty() {
+            return routeTarget == null && children.isEmpty();
+        }
+    }
+
+    private final Node root;
+
+    /**
+     * Creates a trie for the given routes.
+     *
+     * @param routes
+     *            the route targets by path, not <code>null</code>
+     */
+    public RouteSegmentTrie(Map<String, RouteTarget> routes) {
+        Node node = EMPTY_NODE;
+        for (Map.Entry<String, RouteTarget> route : routes.entrySet()) {
+            node = put(node, splitPath(route.getKey()), 0, route.getKey(),
+                    route.getValue());
+        }
+        root = node;
+    }
+
+    private RouteSegmentTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets a trie with the given route target set for the path, replacing any
+     * previous route target for it.
+     *
+     * @param path
+     *            the path of the route, not <code>null</code>
+     * @param routeTarget
+     *            the route target for the path, not <code>null</code>
+     * @return a trie with the route
+     */
+    public RouteSegmentTrie with(String path, RouteTarget routeTarget) {
+        return new RouteSegmentTrie(
+                put(root, splitPath(path), 0, path, routeTarget));
+    }
+
+    /**
+     * Gets a trie without the route target for the given path.
+     *
+     * @param path
+     *            the path of the route to remove, not <code>null</code>
+     * @return a trie without the route, or this trie if it has no route for
+     *         the path
+     */
+    public RouteSegmentTrie without(String path) {
+        Node newRoot = remove(root, splitPath(path), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return new RouteSegmentTrie(newRoot == null ? EMPTY_NODE : newRoot);
+    }
+
+    /**
+     * Finds the route for the given location segments. The route with the
+     * longest path that has a navigation target accepting the remaining
+     * segments as parameters is used.
+     *
+     * @param segments
+     *            the location segments, not <code>null</code>
+     * @return the matched route, or <code>null</code> if no route matches
+     */
+    public RouteMatch match(List<String> segments) {
+        if (segments.isEmpty()) {
+            return null;
+        }
+        // A leading empty segment refers to the root path
+        return match(root, segments, segments.get(0).isEmpty() ? 1 : 0);
+    }
+
+    private static RouteMatch match(Node node, List<String> segments,
+            int index) {
+        if (index < segments.size()) {
+            Node child = node.children.get(segments.get(index));
+            if (child != null) {
+                RouteMatch match = match(child, segments, index + 1);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+
+        if (node.routeTarget != null) {
+            int parameterCount = segments.size() - index;
+            Class<? extends Component> target = node.routeTarget
+                    .getTarget(parameterCount);
+            if (target != null) {
+                return new RouteMatch(node.path, target, parameterCount,
+                        node.routeTarget.getParentLayouts(target));
+            }
+        }
+        return null;
+    }
+
+    private static Node put(Node node, String[] segments, int index,
+            String path, RouteTarget routeTarget) {
+        if (index == segments.length) {
+            return new Node(node.children, path, routeTarget);
+        }
+        Node child = node.children.get(segments[index]);
+        Node newChild = put(child == null ? EMPTY_NODE : child, segments,
+                index + 1, path, routeTarget);
+        return new Node(node.children.with(segments[index], newChild),
+                node.path, node.routeTarget);
+    }
+
+    private static Node remove(Node node, String[] segments, int index) {
+        Node newNode;
+        if (index == segments.length) {
+            if (node.routeTarget == null) {
+                return node;
+            }
+            newNode = new Node(node.children, null, null);
+        } else {
+            Node child = node.children.get(segments[index]);
+            if (child == null) {
+                return node;
+            }
+            Node newChild = remove(child, segments, index + 1);
+            if (newChild == child) {
+                return node;
+            }
+            newNode = new Node(
+                    newChild == null ? node.children.without(segments[index])
+                            : node.children.with(segments[index], newChild),
+                    node.path, node.routeTarget);
+        }
+        return newNode.isEmpty() ? null : newNode;
+    }
+
+    private static String[] splitPath(String path) {
+        if (path.isEmpty()) {
+            return new String[0];
+        }
+        return path.split("/", -1);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.AnnotationReader;
 import com.vaadin.flow.router.ParentLayout;
@@ -29,6 +30,7 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteAlias;
 import com.vaadin.flow.router.RoutePrefix;
 import com.vaadin.flow.router.RouterLayout;
+import com.vaadin.flow.server.RouteRegistry;
 
 /**
  * Utility class with methods for route handling.
@@ -275,4 +277,43 @@ public class RouteUtil {
         }
         return route.value();
     }
+
+    /**
+     * Find the route for the given location segments in the given registry.
+     * The route with the longest path that has a navigation target for the
+     * remaining segments is returned.
+     * <p>
+     * For an {@link AbstractRouteRegistry}, the route trie compiled for its
+     * configuration is used. Other registries are queried for each prefix of
+     * the location, starting from the longest one.
+     *
+     * @param registry
+     *            the registry to find the route in, not <code>null</code>
+     * @param segments
+     *            location segments to find a route for, not <code>null</code>
+     * @return {@link Optional} containing the matched route if found
+     */
+    public static Optional<RouteMatch> getRouteMatch(RouteRegistry registry,
+            List<String> segments) {
+        if (registry instanceof AbstractRouteRegistry) {
+            return ((AbstractRouteRegistry) registry).getRouteMatch(segments);
+        }
+        if (segments.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int start = segments.get(0).isEmpty() ? 1 : 0;
+        for (int end = segments.size(); end >= start; end--) {
+            String path = String.join("/", segments.subList(start, end));
+            List<String> parameters = segments.subList(end, segments.size());
+            Optional<Class<? extends Component>> target = registry
+                    .getNavigationTarget(path, parameters);
+            if (target.isPresent()) {
+                return Optional.of(new RouteMatch(path, target.get(),
+                        parameters.size(),
+                        registry.getRouteLayouts(path, target.get())));
+            }
+        }
+        return Optional.empty();
+    }
 }
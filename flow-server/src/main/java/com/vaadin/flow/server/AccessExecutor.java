@@ -0,0 +1,56 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the tasks that purge the queues of
+ * {@link VaadinSession#access(Command)} tasks of sessions.
+ * <p>
+ * When a {@link VaadinService} has an access executor, a thread that enqueues
+ * an access task for a session that is not locked does not run the queue
+ * itself. Instead, one purge task per session is handed to the executor. The
+ * purge task locks the session, runs all tasks queued by then and pushes the
+ * resulting changes once.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ * @see VaadinService#createAccessExecutor()
+ */
+@FunctionalInterface
+public interface AccessExecutor extends Serializable {
+
+    /**
+     * Runs the given task asynchronously.
+     *
+     * @param task
+     *            the task to run, not <code>null</code>
+     * @throws RejectedExecutionException
+     *             if the task cannot be accepted, in which case the queue is
+     *             purged by the calling thread
+     */
+    void execute(Runnable task);
+
+    /**
+     * Stops accepting new tasks and releases the resources of this executor.
+     * Called when the service is destroyed. Does nothing by default.
+     */
+    default void shutdown() {
+        // Nothing to release by default
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the access queue purges run by the {@link AccessExecutor} of a
+ * {@link VaadinService}.
+ * <p>
+ * Each purge runs all access tasks that are queued for a session when the
+ * purge gets the session lock, and pushes the changes once. The number of
+ * tasks run by a purge is the depth of the session's queue at that point.
+ * Recording is thread-safe and does not block.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ * @see VaadinService#getAccessQueueMetrics()
+ */
+public class AccessQueueMetrics implements Serializable {
+
+    private final LongAdder scheduledPurges = new LongAdder();
+
+    private final LongAdder completedPurges = new LongAdder();
+
+    private final LongAdder purgedTasks = new LongAdder();
+
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(
+            Math::max, 0);
+
+    /**
+     * Records that a purge has been handed to the executor.
+     */
+    public void purgeScheduled() {
+        scheduledPurges.increment();
+    }
+
+    /**
+     * Records that a purge has run.
+     *
+     * @param queueDepth
+     *            the number of access tasks queued for the session when the
+     *            purge got the session lock
+     */
+    public void purgeCompleted(int queueDepth) {
+        completedPurges.increment();
+        purgedTasks.add(queueDepth);
+        maxQueueDepth.accumulate(queueDepth);
+    }
+
+    /**
+     * Gets the number of purges that have been scheduled but not yet run.
+     *
+     * @return the number of pending purges
+     */
+    public long getPendingPurgeCount() {
+        return Math.max(0, scheduledPurges.sum() - completedPurges.sum());
+    }
+
+    /**
+     * Gets the number of purges that have run.
+     *
+     * @return the number of completed purges
+     */
+    public long getCompletedPurgeCount() {
+        return completedPurges.sum();
+    }
+
+    /**
+     * Gets the total number of access tasks run by purges.
+     *
+     * @return the number of purged tasks
+     */
+    public long getPurgedTaskCount() {
+        return purgedTasks.sum();
+    }
+
+    /**
+     * Gets the largest number of access tasks that a single purge has run.
+     *
+     * @return the maximum queue depth
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    public void reset() {
+        scheduledPurges.reset();
+        completedPurges.reset();
+        purgedTasks.reset();
+        maxQueueDepth.reset();
+    }
+}
@@ -24,18 +24,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -115,8 +119,18 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     private static final String MESSAGE = "message";
     private static final String URL = "url";
 
+    /**
+     * Stands in for the contents of the bootstrap script in cached bootstrap
+     * pages. Random so that it cannot appear in any other part of the page.
+     */
+    private static final String BOOTSTRAP_SCRIPT_PLACEHOLDER = "{{BOOTSTRAP_SCRIPT_"
+            + UUID.randomUUID() + "}}";
+    private static final int MAX_CACHED_PAGES = 100;
+
     static Supplier<String> clientEngineFile = () -> LazyClientEngineInit.CLIENT_ENGINE_FILE;
 
+    private final BootstrapPageCache pageCache = new BootstrapPageCache();
+
     private static Logger getLogger() {
         return LoggerFactory.getLogger(BootstrapHandler.class.getName());
     }
@@ -332,6 +346,95 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         }
     }
 
+    /**
+     * Identifies the bootstrap pages which differ only by the contents of the
+     * bootstrap script, i.e. by the initial UIDL and the UI id.
+     */
+    private static class BootstrapPageKey implements Serializable {
+        private final Class<? extends UI> uiClass;
+        private final Class<?> pageConfigurationHolder;
+        private final String serviceUrl;
+        private final String contextRootRelativePath;
+        private final String language;
+        private final boolean es6Supported;
+        private final boolean es5AdapterNeeded;
+        private final PushMode pushMode;
+        private final String title;
+        private final String dependencies;
+
+        private BootstrapPageKey(BootstrapContext context,
+                Optional<String> title,
+                Map<LoadMode, JsonArray> dependenciesToProcessOnServer) {
+            uiClass = context.getUI().getClass();
+            pageConfigurationHolder = context.pageConfigurationHolder;
+            serviceUrl = getServiceUrl(context);
+            contextRootRelativePath = ServletHelper
+                    .getContextRootRelativePath(context.getRequest());
+            language = context.getUI().getLocale().getLanguage();
+            WebBrowser browser = context.getSession().getBrowser();
+            es6Supported = browser.isEs6Supported();
+            es5AdapterNeeded = browser.isEs5AdapterNeeded();
+            pushMode = context.getPushMode();
+            this.title = title.orElse(null);
+            dependencies = dependenciesToProcessOnServer.entrySet().stream()
+                    .map(entry -> entry.getKey() + entry.getValue().toJson())
+                    .collect(Collectors.joining());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BootstrapPageKey)) {
+                return false;
+            }
+            BootstrapPageKey that = (BootstrapPageKey) obj;
+            return uiClass.equals(that.uiClass)
+                    && Objects.equals(pageConfigurationHolder,
+                            that.pageConfigurationHolder)
+                    && serviceUrl.equals(that.serviceUrl)
+                    && contextRootRelativePath
+                            .equals(that.contextRootRelativePath)
+                    && language.equals(that.language)
+                    && es6Supported == that.es6Supported
+                    && es5AdapterNeeded == that.es5AdapterNeeded
+                    && pushMode == that.pushMode
+                    && Objects.equals(title, that.title)
+                    && dependencies.equals(that.dependencies);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uiClass, pageConfigurationHolder, serviceUrl,
+                    contextRootRelativePath, language, es6Supported,
+                    es5AdapterNeeded, pushMode, title, dependencies);
+        }
+    }
+
+    /**
+     * Keeps the most recently used bootstrap pages, split into the parts
+     * before and after the contents of the bootstrap script.
+     */
+    private static class BootstrapPageCache implements Serializable {
+        private final LinkedHashMap<BootstrapPageKey, String[]> pages = new LinkedHashMap<>(
+                16, 0.75f, true);
+
+        private synchronized String[] get(BootstrapPageKey key) {
+            return pages.get(key);
+        }
+
+        private synchronized void put(BootstrapPageKey key, String[] page) {
+            pages.put(key, page);
+            if (pages.size() > MAX_CACHED_PAGES) {
+                Iterator<BootstrapPageKey> iterator = pages.keySet()
+                        .iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
     /**
      * The URI resolver used in the bootstrap process.
      */
@@ -399,13 +502,84 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         ServletHelper.setResponseNoCacheHeaders(response::setHeader,
                 response::setDateHeader);
 
-        Document document = getBootstrapPage(context);
-        writeBootstrapPage(response, document.outerHtml());
+        String html;
+        if (isBootstrapPageCacheable(context)) {
+            html = getCachedBootstrapPage(context);
+        } else {
+            html = getBootstrapPage(context).outerHtml();
+        }
+        writeBootstrapPage(response, html);
 
         return true;
     }
 
     static Document getBootstrapPage(BootstrapContext context) {
+        Optional<String> title = resolvePageTitle(context);
+        JsonObject initialUIDL = getInitialUidl(context.getUI());
+        Map<LoadMode, JsonArray> dependenciesToProcessOnServer = popDependenciesToProcessOnServer(
+                initialUIDL);
+
+        Document document = createBootstrapPage(context, title,
+                dependenciesToProcessOnServer,
+                getBootstrapScript(initialUIDL, context));
+
+        BootstrapPageResponse response = new BootstrapPageResponse(
+                context.getRequest(), context.getSession(),
+                context.getResponse(), document, context.getUI(),
+                context.getUriResolver());
+        context.getSession().getService().modifyBootstrapPage(response);
+
+        return document;
+    }
+
+    /**
+     * Checks whether the bootstrap page for the given context can be served
+     * from {@link #pageCache}. The cached page is only reused if nothing but
+     * the contents of the bootstrap script can differ between requests with
+     * the same {@link BootstrapPageKey}, i.e. in production mode when there
+     * are no bootstrap listeners or page configurators which could modify the
+     * page per request.
+     *
+     * @param context
+     *            the bootstrap context
+     * @return <code>true</code> if the page can be cached, <code>false</code>
+     *         otherwise
+     */
+    private static boolean isBootstrapPageCacheable(BootstrapContext context) {
+        return context.isProductionMode()
+                && !context.getSession().getService().hasBootstrapListeners()
+                && context.getUI().getChildren()
+                        .noneMatch(PageConfigurator.class::isInstance);
+    }
+
+    private String getCachedBootstrapPage(BootstrapContext context) {
+        Optional<String> title = resolvePageTitle(context);
+        JsonObject initialUIDL = getInitialUidl(context.getUI());
+        Map<LoadMode, JsonArray> dependenciesToProcessOnServer = popDependenciesToProcessOnServer(
+                initialUIDL);
+
+        BootstrapPageKey key = new BootstrapPageKey(context, title,
+                dependenciesToProcessOnServer);
+        String[] segments = pageCache.get(key);
+        if (segments == null) {
+            String html = createBootstrapPage(context, title,
+                    dependenciesToProcessOnServer,
+                    createInlineJavaScriptElement(
+                            BOOTSTRAP_SCRIPT_PLACEHOLDER))
+                                    .outerHtml();
+            int index = html.indexOf(BOOTSTRAP_SCRIPT_PLACEHOLDER);
+            segments = new String[] { html.substring(0, index), html.substring(
+                    index + BOOTSTRAP_SCRIPT_PLACEHOLDER.length()) };
+            pageCache.put(key, segments);
+        }
+        return segments[0] + getBootstrapScriptContents(initialUIDL, context)
+                + segments[1];
+    }
+
+    private static Document createBootstrapPage(BootstrapContext context,
+            Optional<String> title,
+            Map<LoadMode, JsonArray> dependenciesToProcessOnServer,
+            Element bootstrapScript) {
         Document document = new Document("");
         DocumentType doctype = new DocumentType("html", "", "",
                 document.baseUri());
@@ -416,7 +590,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         html.appendElement("body");
 
         List<Element> dependenciesToInlineInBody = setupDocumentHead(head,
-                context);
+                context, title, dependenciesToProcessOnServer, bootstrapScript);
         dependenciesToInlineInBody
                 .forEach(dependency -> document.body().appendChild(dependency));
         setupDocumentBody(document);
@@ -440,12 +614,6 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
         setupPwa(document, context);
 
-        BootstrapPageResponse response = new BootstrapPageResponse(
-                context.getRequest(), context.getSession(),
-                context.getResponse(), document, context.getUI(),
-                context.getUriResolver());
-        context.getSession().getService().modifyBootstrapPage(response);
-
         return document;
     }
 
@@ -574,14 +742,12 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     }
 
     private static List<Element> setupDocumentHead(Element head,
-            BootstrapContext context) {
-        setupMetaAndTitle(head, context);
+            BootstrapContext context, Optional<String> title,
+            Map<LoadMode, JsonArray> dependenciesToProcessOnServer,
+            Element bootstrapScript) {
+        setupMetaAndTitle(head, context, title);
         setupCss(head, context);
-
-        JsonObject initialUIDL = getInitialUidl(context.getUI());
-        Map<LoadMode, JsonArray> dependenciesToProcessOnServer = popDependenciesToProcessOnServer(
-                initialUIDL);
-        setupFrameworkLibraries(head, initialUIDL, context);
+        setupFrameworkLibraries(head, bootstrapScript, context);
         return applyUserDependencies(head, context,
                 dependenciesToProcessOnServer);
     }
@@ -634,7 +800,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     }
 
     private static void setupFrameworkLibraries(Element head,
-            JsonObject initialUIDL, BootstrapContext context) {
+            Element bootstrapScript, BootstrapContext context) {
         inlineEs6Collections(head, context);
         appendWebComponentsPolyfills(head, context);
 
@@ -642,7 +808,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             head.appendChild(getPushScript(context));
         }
 
-        head.appendChild(getBootstrapScript(initialUIDL, context));
+        head.appendChild(bootstrapScript);
         head.appendChild(createJavaScriptElement(getClientEngineUrl(context)));
     }
 
@@ -687,7 +853,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     }
 
     private static void setupMetaAndTitle(Element head,
-            BootstrapContext context) {
+            BootstrapContext context, Optional<String> title) {
         head.appendElement(META_TAG).attr("http-equiv", "Content-Type").attr(
                 CONTENT_ATTRIBUTE,
                 ApplicationConstants.CONTENT_TYPE_TEXT_HTML_UTF_8);
@@ -707,9 +873,9 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                             .attr("name", name)
                             .attr(CONTENT_ATTRIBUTE, content));
         }
-        resolvePageTitle(context).ifPresent(title -> {
-            if (!title.isEmpty()) {
-                head.appendElement("title").appendText(title);
+        title.ifPresent(value -> {
+            if (!value.isEmpty()) {
+                head.appendElement("title").appendText(value);
             }
         });
     }
@@ -917,8 +1083,14 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
     private static Element getBootstrapScript(JsonValue initialUIDL,
             BootstrapContext context) {
-        return createInlineJavaScriptElement("//<![CDATA[\n"
-                + getBootstrapJS(initialUIDL, context) + "//]]>");
+        return createInlineJavaScriptElement(
+                getBootstrapScriptContents(initialUIDL, context));
+    }
+
+    private static String getBootstrapScriptContents(JsonValue initialUIDL,
+            BootstrapContext context) {
+        return "//<![CDATA[\n" + getBootstrapJS(initialUIDL, context)
+                + "//]]>";
     }
 
     private static String getBootstrapJS(JsonValue initialUIDL,
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.JsonCodec;
+import com.vaadin.flow.internal.JsonSerializer;
+import com.vaadin.flow.internal.NodeOwner;
+import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.shared.communication.PushMode;
+
+import elemental.json.JsonValue;
+
+/**
+ * Delivers the same value to many UIs, for instance a price update or a
+ * notification that is shown to all users.
+ * <p>
+ * A broadcast value is encoded to JSON once, and the encoded value is handed
+ * to all subscribers. A value that is set as an element property using
+ * {@link Element#setPropertyJson(String, JsonValue)} is sent to each client as
+ * is, so there is no further encoding per UI.
+ * <p>
+ * Subscribers are grouped by session. A broadcast runs a single
+ * {@link VaadinSession#access(Command) access task} per session, which
+ * delivers the value to all subscribed UIs of the session while holding the
+ * session lock once. UIs using {@link PushMode#AUTOMATIC automatic push} push
+ * the changes when the lock is released, UIs using {@link PushMode#MANUAL
+ * manual push} are pushed after the value has been delivered. The access
+ * tasks are started on the executor given to the constructor, a batch of
+ * sessions per executor task.
+ * <p>
+ * A subscription is removed when its UI is detached. A broadcaster is
+ * typically shared by all sessions; subscriptions and the executor are not
+ * preserved when a broadcaster is serialized.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class Broadcaster implements Serializable {
+
+    /**
+     * The default number of sessions handled by one executor task.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final int batchSize;
+
+    private transient Executor executor;
+
+    private transient Map<VaadinSession, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private static class Subscriber implements Serializable {
+        private final UI ui;
+        private final SerializableConsumer<JsonValue> receiver;
+
+        private Subscriber(UI ui, SerializableConsumer<JsonValue> receiver) {
+            this.ui = ui;
+            this.receiver = receiver;
+        }
+    }
+
+    /**
+     * Creates a broadcaster that starts the session access tasks on the
+     * thread calling {@link #broadcast(Object)}.
+     */
+    public Broadcaster() {
+        this(Runnable::run, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a broadcaster that starts the session access tasks on the given
+     * executor, using the {@link #DEFAULT_BATCH_SIZE default batch size}.
+     *
+     * @param executor
+     *            the executor to use, not <code>null</code>
+     */
+    public Broadcaster(Executor executor) {
+        this(executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a broadcaster that starts the session access tasks on the given
+     * executor.
+     *
+     * @param executor
+     *            the executor to use, not <code>null</code>
+     * @param batchSize
+     *            the number of sessions handled by one executor task, at least
+     *            <code>1</code>
+     */
+    public Broadcaster(Executor executor, int batchSize) {
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Batch size must be at least 1, was " + batchSize);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes a UI to the values of this broadcaster. The receiver is run
+     * while the session of the UI is locked.
+     *
+     * @param ui
+     *            the UI to subscribe, not <code>null</code>
+     * @param receiver
+     *            the receiver of the encoded values, not <code>null</code>
+     * @return a handle that can be used for removing the subscription
+     * @throws IllegalStateException
+     *             if the UI is not attached to a session
+     */
+    public Registration subscribe(UI ui,
+            SerializableConsumer<JsonValue> receiver) {
+        Objects.requireNonNull(ui, "UI cannot be null");
+        Objects.requireNonNull(receiver, "Receiver cannot be null");
+        VaadinSession session = ui.getSession();
+        if (session == null) {
+            throw new IllegalStateException(
+                    "Cannot subscribe a UI that is not attached to a session");
+        }
+
+        Subscriber subscriber = new Subscriber(ui, receiver);
+        subscribers.compute(session, (key, sessionSubscribers) -> {
+            Set<Subscriber> set = sessionSubscribers == null
+                    ? ConcurrentHashMap.newKeySet()
+                    : sessionSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+
+        Registration detachRegistration = ui
+                .addDetachListener(event -> unsubscribe(session, subscriber));
+        return () -> {
+            detachRegistration.remove();
+            unsubscribe(session, subscriber);
+        };
+    }
+
+    /**
+     * Subscribes an element to the values of this broadcaster. Each value is
+     * set as the given property of the element.
+     *
+     * @param element
+     *            the element to update, not <code>null</code>
+     * @param propertyName
+     *            the name of the property to set, not <code>null</code>
+     * @return a handle that can be used for removing the subscription
+     * @throws IllegalStateException
+     *             if the element is not attached to a UI that is attached to
+     *             a session
+     */
+    public Registration subscribe(Element element, String propertyName) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        Objects.requireNonNull(propertyName, "Property name cannot be null");
+        NodeOwner owner = element.getNode().getOwner();
+        if (!(owner instanceof StateTree)) {
+            throw new IllegalStateException(
+                    "Cannot subscribe an element that is not attached to a UI");
+        }
+        return subscribe(((StateTree) owner).getUI(),
+                value -> element.setPropertyJson(propertyName, value));
+    }
+
+    /**
+     * Encodes the given value and delivers it to all subscribers.
+     * <p>
+     * The value is encoded using {@link JsonCodec} if it is a basic type
+     * supported by it, and otherwise using {@link JsonSerializer}. The encoded
+     * value is shared by all subscribers and should not be modified.
+     *
+     * @param value
+     *            the value to broadcast, may be <code>null</code>
+     */
+    public void broadcast(Object value) {
+        broadcastEncoded(encode(value));
+    }
+
+    /**
+     * Delivers an already encoded value to all subscribers.
+     *
+     * @param value
+     *            the value to broadcast, not <code>null</code>
+     */
+    public void broadcastEncoded(JsonValue value) {
+        Objects.requireNonNull(value,
+                "Json.createNull() must be used instead of null for JSON values");
+
+        List<VaadinSession> sessions = new ArrayList<>(
+                subscribers.keySet());
+        for (int start = 0; start < sessions.size(); start += batchSize) {
+            List<VaadinSession> batch = sessions.subList(start,
+                    Math.min(start + batchSize, sessions.size()));
+            executor.execute(() -> batch.forEach(
+                    session -> session.access(() -> deliver(session, value))));
+        }
+    }
+
+    /**
+     * Gets the number of UIs currently subscribed to this broadcaster.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void deliver(VaadinSession session, JsonValue value) {
+        Set<Subscriber> sessionSubscribers = subscribers.get(session);
+        if (sessionSubscribers == null) {
+            return;
+        }
+
+        List<UI> manualPushUIs = new ArrayList<>();
+        for (Subscriber subscriber : sessionSubscribers) {
+            UI ui = subscriber.ui;
+            if (ui.getSession() != session) {
+                // Detached after the broadcast was started
+                continue;
+            }
+            subscriber.receiver.accept(value);
+            if (ui.getPushConfiguration().getPushMode() == PushMode.MANUAL
+                    && !manualPushUIs.contains(ui)) {
+                manualPushUIs.add(ui);
+            }
+        }
+        manualPushUIs.forEach(UI::push);
+    }
+
+    private void unsubscribe(VaadinSession session, Subscriber subscriber) {
+        subscribers.computeIfPresent(session,
+                (key, sessionSubscribers) -> {
+                    sessionSubscribers.remove(subscriber);
+                    return sessionSubscribers.isEmpty() ? null
+                            : sessionSubscribers;
+                });
+    }
+
+    private static JsonValue encode(Object value) {
+        if (value == null
+                || JsonCodec.canEncodeWithoutTypeInfo(value.getClass())) {
+            return JsonCodec.encodeWithoutTypeInfo(value);
+        }
+        return JsonSerializer.toJson(value);
+    }
+
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        executor = Runnable::run;
+        subscribers = new ConcurrentHashMap<>();
+    }
+}
@@ -48,6 +48,55 @@ public final class Constants implements Serializable {
      */
     public static final String SERVLET_PARAMETER_BROTLI = "brotli";
 
+    /**
+     * Configuration name for the parameter that determines whether stream
+     * resource downloads and uploads use asynchronous servlet I/O, releasing
+     * the request thread while the data is transferred.
+     */
+    public static final String SERVLET_PARAMETER_ASYNC_STREAM_TRANSFER = "asyncStreamTransfer";
+
+    /**
+     * Configuration name for the parameter that determines the timeout in
+     * milliseconds of an asynchronous stream resource download or upload.
+     */
+    public static final String SERVLET_PARAMETER_ASYNC_STREAM_TRANSFER_TIMEOUT = "asyncStreamTransferTimeout";
+
+    /**
+     * The default timeout in milliseconds of an asynchronous stream resource
+     * download or upload.
+     */
+    public static final long DEFAULT_ASYNC_STREAM_TRANSFER_TIMEOUT = 5 * 60
+            * 1000L;
+
+    /**
+     * Configuration name for the parameter that determines the maximum total
+     * size in bytes of the static resources cached in memory in production
+     * mode.
+     */
+    public static final String SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_SIZE = "staticResourceCacheSize";
+
+    /**
+     * The default maximum total size in bytes of the static resources cached
+     * in memory in production mode.
+     */
+    public static final long DEFAULT_STATIC_RESOURCE_CACHE_SIZE = 32L * 1024
+            * 1024;
+
+    /**
+     * Configuration name for the parameter that determines whether the queues
+     * of {@link VaadinSession#access(Command)} tasks
+     * are run on a dedicated executor instead of the thread that enqueued the
+     * task.
+     */
+    public static final String SERVLET_PARAMETER_ACCESS_EXECUTOR = "accessExecutor";
+
+    /**
+     * Configuration name for the parameter that determines the number of
+     * threads used for running access tasks when virtual threads are not
+     * available.
+     */
+    public static final String SERVLET_PARAMETER_ACCESS_EXECUTOR_POOL_SIZE = "accessExecutorPoolSize";
+
     /**
      * Configuration name for loading the ES5 adapters.
      */
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access executor that runs tasks on virtual threads when the JVM supports
+ * them, and otherwise on a bounded pool of daemon threads.
+ * <p>
+ * The executor service is created when the first task is run, and again after
+ * deserialization.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class DefaultAccessExecutor implements AccessExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final int poolSize;
+
+    private transient ExecutorService executorService;
+
+    private transient boolean shutdown;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param poolSize
+     *            the number of threads to use if virtual threads are not
+     *            available, <code>0</code> to use twice the number of
+     *            available processors
+     */
+    public DefaultAccessExecutor(int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException(
+                    "Pool size must not be negative, was " + poolSize);
+        }
+        this.poolSize = poolSize == 0
+                ? 2 * Runtime.getRuntime().availableProcessors()
+                : poolSize;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        getExecutorService().execute(task);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = createExecutorService();
+            if (shutdown) {
+                executorService.shutdown();
+            }
+        }
+        return executorService;
+    }
+
+    /**
+     * Creates the executor service used for running tasks.
+     *
+     * @return the executor service, not <code>null</code>
+     */
+    protected ExecutorService createExecutorService() {
+        ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new AccessThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per task, using reflection
+     * since virtual threads are not available in all supported Java versions.
+     *
+     * @return the executor, or <code>null</code> if virtual threads are not
+     *         available
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LoggerFactory.getLogger(DefaultAccessExecutor.class).debug(
+                    "Virtual threads are not available, using a thread pool",
+                    e);
+            return null;
+        }
+    }
+
+    private static class AccessThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable,
+                    "vaadin-access-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream consumer which is able to write an arbitrary byte range of its
+ * data.
+ * <p>
+ * {@link StreamResource} instances using a writer implementing this interface
+ * are served with support for HTTP range requests, so that e.g. interrupted
+ * downloads can be resumed and media players can seek in the data.
+ * <p>
+ * Note that none of the methods are called under the session lock. If the
+ * implementation requires access to the application/session data then the
+ * session has to be locked explicitly.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ * @see StreamResource#StreamResource(String, java.io.File)
+ */
+public interface RangeStreamResourceWriter extends StreamResourceWriter {
+
+    /**
+     * Gets the total length of the data in bytes.
+     *
+     * @param session
+     *            vaadin session
+     * @return the length of the data in bytes, or a negative value if the
+     *         length is not known in which case range requests are not
+     *         supported for the request
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    long getContentLength(VaadinSession session) throws IOException;
+
+    /**
+     * Writes {@code length} bytes of data starting from the byte at
+     * {@code start} to the {@code stream}.
+     * <p>
+     * The method may be called several times for the same stream if multiple
+     * ranges are requested, so the implementation must not close the stream.
+     *
+     * @param stream
+     *            data output stream
+     * @param session
+     *            vaadin session
+     * @param start
+     *            the zero based index of the first byte to write
+     * @param length
+     *            the number of bytes to write
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    void accept(OutputStream stream, VaadinSession session, long start,
+            long length) throws IOException;
+
+    @Override
+    default void accept(OutputStream stream, VaadinSession session)
+            throws IOException {
+        accept(stream, session, 0, getContentLength(session));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.vaadin.flow.function.DeploymentConfiguration;
+
+/**
+ * Output stream consumer whose data can also be pulled from an
+ * {@link InputStream}.
+ * <p>
+ * When asynchronous stream transfer is enabled (see
+ * {@link DeploymentConfiguration#isAsyncStreamTransfer()}), the data of
+ * {@link StreamResource} instances using a writer implementing this interface
+ * is read from the stream only as fast as the client receives it, without
+ * occupying a request thread while waiting for a slow client.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public interface ReadableStreamResourceWriter extends StreamResourceWriter {
+
+    /**
+     * Opens a stream for reading the data.
+     * <p>
+     * The method is not called under the session lock.
+     *
+     * @param session
+     *            vaadin session
+     * @return data input stream, not <code>null</code>
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    InputStream openStream(VaadinSession session) throws IOException;
+
+    /**
+     * Checks whether data should be read from the stream returned by
+     * {@link #openStream(VaadinSession)} while holding the session lock.
+     *
+     * @return <code>true</code> if the data should be read under the session
+     *         lock, <code>false</code> otherwise
+     * @see InputStreamFactory#requiresLock()
+     */
+    default boolean requiresLock() {
+        return false;
+    }
+}
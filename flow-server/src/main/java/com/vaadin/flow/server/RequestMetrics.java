@@ -0,0 +1,169 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings and sizes collected during one server round trip.
+ * <p>
+ * An instance is filled in by the framework while the round trip is handled
+ * and then passed to the registered {@link RequestMetricsListener}s. Instances
+ * are not thread-safe.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ * @see RequestMetricsEvent
+ */
+public class RequestMetrics implements Serializable {
+
+    /**
+     * The phases of a round trip that are timed separately.
+     */
+    public enum Phase {
+        /**
+         * Reading and parsing the RPC message sent by the client, including
+         * the security and message id checks.
+         */
+        RPC_DECODE,
+        /**
+         * Executing the RPC invocations, including the listeners they trigger,
+         * and running the pending access tasks of the session.
+         */
+        RPC_HANDLING,
+        /**
+         * Running the callbacks registered to be executed before the client
+         * response.
+         */
+        BEFORE_CLIENT_RESPONSE,
+        /**
+         * Collecting the changes of the dirty state nodes.
+         */
+        CHANGE_COLLECTION,
+        /**
+         * Encoding the response JSON, including the collected changes.
+         */
+        ENCODING,
+        /**
+         * Writing the encoded response to the client.
+         */
+        WRITE;
+    }
+
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    private int dirtyNodeCount;
+    private int changeCount;
+    private long responseSize;
+
+    /**
+     * Adds time spent in a phase.
+     *
+     * @param phase
+     *            the phase, not <code>null</code>
+     * @param nanos
+     *            the time spent in nanoseconds
+     */
+    public void addPhaseTime(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Gets the total time spent in a phase.
+     *
+     * @param phase
+     *            the phase, not <code>null</code>
+     * @param unit
+     *            the time unit to return the time in, not <code>null</code>
+     * @return the time spent in the phase in the given unit
+     */
+    public long getPhaseTime(Phase phase, TimeUnit unit) {
+        return unit.convert(phaseNanos[phase.ordinal()], TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the total time spent in all phases.
+     *
+     * @param unit
+     *            the time unit to return the time in, not <code>null</code>
+     * @return the time spent in all phases in the given unit
+     */
+    public long getTotalTime(TimeUnit unit) {
+        long total = 0;
+        for (long nanos : phaseNanos) {
+            total += nanos;
+        }
+        return unit.convert(total, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds to the number of state nodes that had changes sent to the client.
+     *
+     * @param count
+     *            the number of nodes to add
+     */
+    public void addDirtyNodeCount(int count) {
+        dirtyNodeCount += count;
+    }
+
+    /**
+     * Gets the number of state nodes that had changes sent to the client.
+     *
+     * @return the number of dirty nodes
+     */
+    public int getDirtyNodeCount() {
+        return dirtyNodeCount;
+    }
+
+    /**
+     * Adds to the number of changes sent to the client.
+     *
+     * @param count
+     *            the number of changes to add
+     */
+    public void addChangeCount(int count) {
+        changeCount += count;
+    }
+
+    /**
+     * Gets the number of changes sent to the client.
+     *
+     * @return the number of changes
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Adds to the size of the response written to the client.
+     *
+     * @param bytes
+     *            the number of bytes to add
+     */
+    public void addResponseSize(long bytes) {
+        responseSize += bytes;
+    }
+
+    /**
+     * Gets the size of the response written to the client.
+     *
+     * @return the response size in bytes
+     */
+    public long getResponseSize() {
+        return responseSize;
+    }
+}
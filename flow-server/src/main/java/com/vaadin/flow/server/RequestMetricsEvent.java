@@ -0,0 +1,90 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.EventObject;
+
+import com.vaadin.flow.component.UI;
+
+/**
+ * Event fired to {@link RequestMetricsListener} when a server round trip for a
+ * {@link UI} has been completed.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+public class RequestMetricsEvent extends EventObject {
+
+    private final UI ui;
+    private final RequestMetrics metrics;
+    private final boolean push;
+
+    /**
+     * Creates a new event.
+     *
+     * @param service
+     *            the service from which the event originates
+     * @param ui
+     *            the UI the round trip was made for
+     * @param metrics
+     *            the metrics collected for the round trip
+     * @param push
+     *            <code>true</code> if the response was sent through a push
+     *            connection, <code>false</code> if it was sent as the response
+     *            to an UIDL request
+     */
+    public RequestMetricsEvent(VaadinService service, UI ui,
+            RequestMetrics metrics, boolean push) {
+        super(service);
+        this.ui = ui;
+        this.metrics = metrics;
+        this.push = push;
+    }
+
+    @Override
+    public VaadinService getSource() {
+        return (VaadinService) super.getSource();
+    }
+
+    /**
+     * Gets the UI the round trip was made for.
+     *
+     * @return the UI
+     */
+    public UI getUI() {
+        return ui;
+    }
+
+    /**
+     * Gets the metrics collected for the round trip.
+     *
+     * @return the metrics
+     */
+    public RequestMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Checks whether the response was sent through a push connection.
+     *
+     * @return <code>true</code> if the response was pushed,
+     *         <code>false</code> if it was sent as the response to an UIDL
+     *         request
+     */
+    public boolean isPush() {
+        return push;
+    }
+}
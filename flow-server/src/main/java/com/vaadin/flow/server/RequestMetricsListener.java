@@ -0,0 +1,48 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.EventListener;
+
+/**
+ * Listener notified with the timings and sizes of each server round trip, i.e.
+ * each UIDL request and each message pushed to the client.
+ * <p>
+ * The metrics are only collected when at least one listener has been
+ * registered. Listeners are registered using the {@link ServiceInitEvent}
+ * during the initialization of the application.
+ *
+ * @see ServiceInitEvent#addRequestMetricsListener(RequestMetricsListener)
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ */
+@FunctionalInterface
+public interface RequestMetricsListener extends EventListener, Serializable {
+
+    /**
+     * Invoked after the response of a round trip has been written.
+     * <p>
+     * The method is called while holding the session lock, so the
+     * implementation should only record the metrics and return quickly.
+     *
+     * @param event
+     *            the event containing the metrics of the round trip
+     */
+    void requestCompleted(RequestMetricsEvent event);
+
+}
@@ -39,6 +39,7 @@ public class ServiceInitEvent extends EventObject {
     private List<RequestHandler> addedRequestHandlers = new ArrayList<>();
     private List<BootstrapListener> addedBootstrapListeners = new ArrayList<>();
     private List<DependencyFilter> addedDependencyFilters = new ArrayList<>();
+    private List<RequestMetricsListener> addedRequestMetricsListeners = new ArrayList<>();
 
     /**
      * Creates a new service init event for a given {@link VaadinService} and
@@ -93,6 +94,21 @@ public class ServiceInitEvent extends EventObject {
         addedDependencyFilters.add(dependencyFilter);
     }
 
+    /**
+     * Adds a new request metrics listener that will be notified of the
+     * timings and sizes of each server round trip handled by this service.
+     *
+     * @param requestMetricsListener
+     *            the request metrics listener to add, not <code>null</code>
+     */
+    public void addRequestMetricsListener(
+            RequestMetricsListener requestMetricsListener) {
+        Objects.requireNonNull(requestMetricsListener,
+                "Request metrics listener cannot be null");
+
+        addedRequestMetricsListeners.add(requestMetricsListener);
+    }
+
     /**
      * Gets a stream of all custom request handlers that have been added for the
      * service.
@@ -123,6 +139,16 @@ public class ServiceInitEvent extends EventObject {
         return addedDependencyFilters.stream();
     }
 
+    /**
+     * Gets a stream of all request metrics listeners that have been added for
+     * the service.
+     *
+     * @return the stream of added request metrics listeners
+     */
+    public Stream<RequestMetricsListener> getAddedRequestMetricsListeners() {
+        return addedRequestMetricsListeners.stream();
+    }
+
     @Override
     public VaadinService getSource() {
         return (VaadinService) super.getSource();
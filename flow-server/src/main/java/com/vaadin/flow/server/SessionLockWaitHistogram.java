@@ -0,0 +1,130 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of the time requests have waited for a session lock in a
+ * {@link VaadinService}.
+ * <p>
+ * The wait times are counted in buckets with exponentially growing upper
+ * bounds, see {@link #getBucketUpperBounds(TimeUnit)}. The first bucket counts
+ * the lock acquisitions that did not have to wait at all. Recording is
+ * thread-safe and does not block.
+ *
+ * @author Vaadin Ltd
+ * @since 1.5
+ * @see VaadinService#getSessionLockWaitHistogram()
+ */
+public class SessionLockWaitHistogram implements Serializable {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = { 0,
+            TimeUnit.MICROSECONDS.toNanos(10),
+            TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(10), Long.MAX_VALUE };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_NANOS.length];
+
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public SessionLockWaitHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one lock acquisition.
+     *
+     * @param waitNanos
+     *            the time waited for the lock in nanoseconds, <code>0</code> if
+     *            the lock was acquired without waiting
+     */
+    public void record(long waitNanos) {
+        long wait = Math.max(0, waitNanos);
+        int index = 0;
+        while (wait > BUCKET_UPPER_BOUNDS_NANOS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        totalWaitNanos.add(wait);
+    }
+
+    /**
+     * Gets the inclusive upper bounds of the buckets. The last bucket has no
+     * upper bound and is reported as {@link Long#MAX_VALUE}.
+     *
+     * @param unit
+     *            the time unit to return the bounds in, not <code>null</code>
+     * @return the bucket upper bounds in the given unit, in the same order as
+     *         the counts returned by {@link #getCounts()}
+     */
+    public long[] getBucketUpperBounds(TimeUnit unit) {
+        return Arrays.stream(BUCKET_UPPER_BOUNDS_NANOS)
+                .map(bound -> bound == Long.MAX_VALUE ? bound
+                        : unit.convert(bound, TimeUnit.NANOSECONDS))
+                .toArray();
+    }
+
+    /**
+     * Gets a snapshot of the number of lock acquisitions per bucket.
+     *
+     * @return the counts per bucket
+     * @see #getBucketUpperBounds(TimeUnit)
+     */
+    public long[] getCounts() {
+        return Arrays.stream(buckets).mapToLong(LongAdder::sum).toArray();
+    }
+
+    /**
+     * Gets the total number of recorded lock acquisitions.
+     *
+     * @return the number of lock acquisitions
+     */
+    public long getCount() {
+        return Arrays.stream(buckets).mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Gets the total time waited for locks.
+     *
+     * @param unit
+     *            the time unit to return the time in, not <code>null</code>
+     * @return the total wait time in the given unit
+     */
+    public long getTotalWaitTime(TimeUnit unit) {
+        return unit.convert(totalWaitNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalWaitNanos.reset();
+    }
+}
@@ -31,6 +31,8 @@ import com.vaadin.flow.router.RoutesChangedEvent;
 import com.vaadin.flow.router.RoutesChangedListener;
 import com.vaadin.flow.router.internal.AbstractRouteRegistry;
 import com.vaadin.flow.router.internal.ConfiguredRoutes;
+import com.vaadin.flow.router.internal.RouteMatch;
+import com.vaadin.flow.router.internal.RouteUtil;
 import com.vaadin.flow.shared.Registration;
 
 /**
@@ -174,6 +176,23 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
         return parentRegistry.getNavigationTarget(pathString, segments);
     }
 
+    @Override
+    public Optional<RouteMatch> getRouteMatch(List<String> segments) {
+        Optional<RouteMatch> sessionMatch = super.getRouteMatch(segments);
+        if (parentRegistry == null) {
+            return sessionMatch;
+        }
+        Optional<RouteMatch> parentMatch = RouteUtil
+                .getRouteMatch(parentRegistry, segments);
+        // The longest matching path wins, session routes override global ones
+        if (!parentMatch.isPresent() || (sessionMatch.isPresent()
+                && sessionMatch.get().getParameterCount() <= parentMatch.get()
+                        .getParameterCount())) {
+            return sessionMatch;
+        }
+        return parentMatch;
+    }
+
     @Override
     public Optional<String> getTargetUrl(
             Class<? extends Component> navigationTarget) {
@@ -27,7 +27,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.internal.EntityTagUtil;
 import com.vaadin.flow.internal.ResponseWriter;
+import com.vaadin.flow.internal.StaticResourceCache;
+import com.vaadin.flow.internal.StaticResourceCache.CachedResource;
 import com.vaadin.flow.shared.ApplicationConstants;
 
 /**
@@ -47,6 +50,7 @@ public class StaticFileServer implements StaticFileHandler {
     private final ResponseWriter responseWriter;
     private final VaadinServletService servletService;
     private DeploymentConfiguration deploymentConfiguration;
+    private final StaticResourceCache resourceCache;
 
     /**
      * Constructs a file server.
@@ -58,6 +62,13 @@ public class StaticFileServer implements StaticFileHandler {
         this.servletService = servletService;
         deploymentConfiguration = servletService.getDeploymentConfiguration();
         responseWriter = new ResponseWriter(deploymentConfiguration);
+        // Resources may change during development, so they are only cached in
+        // production mode
+        long cacheSize = deploymentConfiguration.isProductionMode()
+                ? deploymentConfiguration.getStaticResourceCacheSize()
+                : 0;
+        resourceCache = cacheSize > 0 ? new StaticResourceCache(cacheSize)
+                : null;
     }
 
     @Override
@@ -77,6 +88,10 @@ public class StaticFileServer implements StaticFileHandler {
             // We rather serve 404 than let it fall through
             return true;
         }
+        if (resourceCache != null
+                && resourceCache.get(requestFilename) != null) {
+            return true;
+        }
         resource = servletService.getStaticResource(requestFilename);
 
         return resource != null;
@@ -86,6 +101,19 @@ public class StaticFileServer implements StaticFileHandler {
     public boolean serveStaticResource(HttpServletRequest request,
             HttpServletResponse response) throws IOException {
         String filenameWithPath = getRequestFilename(request);
+        CachedResource cachedResource = resourceCache == null ? null
+                : resourceCache.get(filenameWithPath);
+        if (cachedResource != null) {
+            writeCacheHeaders(filenameWithPath, response);
+            if (cachedResource.getLastModified() >= 0) {
+                response.setDateHeader("Last-Modified",
+                        cachedResource.getLastModified());
+            }
+            serveCachedResource(filenameWithPath, cachedResource, request,
+                    response);
+            return true;
+        }
+
         URL resourceUrl = servletService.getStaticResource(filenameWithPath);
 
         if (resourceUrl == null) {
@@ -101,6 +129,17 @@ public class StaticFileServer implements StaticFileHandler {
 
         long timestamp = writeModificationTimestamp(resourceUrl, request,
                 response);
+        if (resourceCache != null) {
+            cachedResource = responseWriter.readResourceContents(
+                    filenameWithPath, resourceUrl, timestamp, request,
+                    resourceCache.getMaxResourceSize());
+            if (cachedResource != null) {
+                resourceCache.put(filenameWithPath, cachedResource);
+                serveCachedResource(filenameWithPath, cachedResource, request,
+                        response);
+                return true;
+            }
+        }
         if (browserHasNewestVersion(request, timestamp)) {
             // Browser is up to date, nothing further to do than set the
             // response code
@@ -112,6 +151,24 @@ public class StaticFileServer implements StaticFileHandler {
         return true;
     }
 
+    private void serveCachedResource(String filenameWithPath,
+            CachedResource cachedResource, HttpServletRequest request,
+            HttpServletResponse response) {
+        response.setHeader("ETag", cachedResource.getETag());
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean browserHasNewestVersion = ifNoneMatch != null
+                ? EntityTagUtil.matchesIfNoneMatch(ifNoneMatch,
+                        cachedResource.getETag())
+                : browserHasNewestVersion(request,
+                        cachedResource.getLastModified());
+        if (browserHasNewestVersion) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        responseWriter.writeResponseContents(filenameWithPath, cachedResource,
+                request, response);
+    }
+
     /**
      * Writes the modification timestamp info for the file into the response.
      *
@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.server;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -50,6 +53,12 @@ public class StreamResource extends AbstractStreamResource {
 
     private ContentTypeResolver resolver = DEFAULT_RESOLVER;
 
+    private String eTag;
+
+    private boolean weakETag;
+
+    private long lastModified = -1L;
+
     private static class DefaultResolver implements ContentTypeResolver {
 
         @Override
@@ -60,7 +69,7 @@ public class StreamResource extends AbstractStreamResource {
 
     }
 
-    private static class Pipe implements StreamResourceWriter {
+    private static class Pipe implements ReadableStreamResourceWriter {
 
         private static final int BUFFER_SIZE = 1024;
 
@@ -78,6 +87,16 @@ public class StreamResource extends AbstractStreamResource {
             }
         }
 
+        @Override
+        public InputStream openStream(VaadinSession session) {
+            return createInputStream(session);
+        }
+
+        @Override
+        public boolean requiresLock() {
+            return factory.requiresLock();
+        }
+
         private InputStream createInputStream(VaadinSession session) {
             session.lock();
             try {
@@ -111,6 +130,60 @@ public class StreamResource extends AbstractStreamResource {
         }
     }
 
+    private static class FileStreamWriter
+            implements RangeStreamResourceWriter, ReadableStreamResourceWriter {
+
+        private static final int BUFFER_SIZE = 8 * 1024;
+
+        private final File file;
+
+        private FileStreamWriter(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public long getContentLength(VaadinSession session)
+                throws IOException {
+            if (!file.isFile() || !file.canRead()) {
+                throw new FileNotFoundException(file.getPath());
+            }
+            return file.length();
+        }
+
+        @Override
+        public InputStream openStream(VaadinSession session)
+                throws IOException {
+            // FileInputStream skips by seeking which makes ranges cheap
+            return new FileInputStream(file);
+        }
+
+        @Override
+        public void accept(OutputStream stream, VaadinSession session)
+                throws IOException {
+            RangeStreamResourceWriter.super.accept(stream, session);
+        }
+
+        @Override
+        public void accept(OutputStream stream, VaadinSession session,
+                long start, long length) throws IOException {
+            try (InputStream source = openStream(session)) {
+                source.skip(start);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long remaining = length;
+                while (remaining > 0) {
+                    int read = source.read(buffer, 0,
+                            (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new IOException("File " + file.getPath()
+                                + " was truncated while being sent");
+                    }
+                    stream.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+        }
+    }
+
     /**
      * Creates {@link StreamResource} instance using mandatory parameters
      * {@code name} as a resource file name and output stream {@code writer} as
@@ -158,6 +231,28 @@ public class StreamResource extends AbstractStreamResource {
         assert name != null;
     }
 
+    /**
+     * Creates {@link StreamResource} instance using mandatory parameters
+     * {@code name} as a resource file name and {@code file} as the data.
+     * <p>
+     * The file is read starting directly at the requested range, so seeking
+     * within the file is cheap. Byte range requests are supported, and
+     * unless explicitly set using {@link #setETag(String, boolean)} and
+     * {@link #setLastModified(long)}, the entity tag and the last modification
+     * time of the resource are derived from the size and the modification time
+     * of the file. Requests are responded with <code>404 Not Found</code> if
+     * the file doesn't exist or can't be read.
+     *
+     * @param name
+     *            resource file name. May not be null.
+     * @param file
+     *            the file containing the data. May not be null.
+     */
+    public StreamResource(String name, File file) {
+        this(name, new FileStreamWriter(file));
+        assert file != null;
+    }
+
     /**
      * Returns the stream resource writer.
      * <p>
@@ -217,6 +312,111 @@ public class StreamResource extends AbstractStreamResource {
         return resolver;
     }
 
+    /**
+     * Sets a strong entity tag for the resource.
+     * <p>
+     * This is a shorthand for {@link #setETag(String, boolean)} with
+     * {@code weak} set to {@code false}.
+     *
+     * @param tag
+     *            the opaque entity tag without quotes, or <code>null</code> to
+     *            not send an entity tag
+     * @return this resource
+     */
+    public StreamResource setETag(String tag) {
+        return setETag(tag, false);
+    }
+
+    /**
+     * Sets the entity tag for the resource. The entity tag identifies the
+     * current contents of the resource and should be changed whenever the
+     * contents change.
+     * <p>
+     * The entity tag is sent in the "ETag" header of the response. Requests
+     * with a matching "If-None-Match" header are responded with
+     * <code>304 Not Modified</code> without invoking the resource writer. Only
+     * a strong entity tag can be used by the browser to resume a download
+     * using a range request, so a weak tag should only be used if the bytes
+     * of the resource may differ while the contents remain semantically
+     * equivalent.
+     *
+     * @param tag
+     *            the opaque entity tag without quotes, or <code>null</code> to
+     *            not send an entity tag
+     * @param weak
+     *            <code>true</code> for a weak entity tag, <code>false</code>
+     *            for a strong one
+     * @return this resource
+     */
+    public StreamResource setETag(String tag, boolean weak) {
+        if (tag != null && tag.indexOf('"') != -1) {
+            throw new IllegalArgumentException(
+                    "Entity tag cannot contain '\"'");
+        }
+        eTag = tag;
+        weakETag = weak;
+        return this;
+    }
+
+    /**
+     * Gets the entity tag of the resource formatted as the value of the "ETag"
+     * header, e.g. <code>"abc"</code> or <code>W/"abc"</code>.
+     *
+     * @return the entity tag header value, or <code>null</code> if the
+     *         resource has no entity tag
+     */
+    public String getETag() {
+        if (eTag != null) {
+            return (weakETag ? "W/\"" : "\"") + eTag + '"';
+        }
+        if (writer instanceof FileStreamWriter) {
+            File file = ((FileStreamWriter) writer).file;
+            if (file.isFile()) {
+                return '"' + Long.toHexString(file.length()) + '-'
+                        + Long.toHexString(file.lastModified()) + '"';
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the last modification time of the resource.
+     * <p>
+     * The time is sent in the "Last-Modified" header of the response. Requests
+     * with an "If-Modified-Since" header which is not older than the time are
+     * responded with <code>304 Not Modified</code> without invoking the
+     * resource writer.
+     *
+     * @param lastModified
+     *            the last modification time in milliseconds since epoch, or a
+     *            negative value if not known
+     * @return this resource
+     */
+    public StreamResource setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+        return this;
+    }
+
+    /**
+     * Gets the last modification time of the resource.
+     *
+     * @return the last modification time in milliseconds since epoch, or
+     *         <code>-1</code> if not known
+     */
+    public long getLastModified() {
+        if (lastModified >= 0) {
+            return lastModified;
+        }
+        if (writer instanceof FileStreamWriter) {
+            long fileModified = ((FileStreamWriter) writer).file
+                    .lastModified();
+            if (fileModified > 0) {
+                return fileModified;
+            }
+        }
+        return -1L;
+    }
+
     @Override
     public String getName() {
         return fileName;
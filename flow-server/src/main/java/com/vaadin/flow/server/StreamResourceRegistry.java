@@ -18,9 +18,9 @@ package com.vaadin.flow.server;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.vaadin.flow.server.communication.StreamRequestHandler;
 
@@ -32,7 +32,7 @@ import com.vaadin.flow.server.communication.StreamRequestHandler;
  */
 public class StreamResourceRegistry implements Serializable {
 
-    private final Map<URI, AbstractStreamResource> res = new HashMap<>();
+    private final Map<URI, AbstractStreamResource> res = new ConcurrentHashMap<>();
 
     private final VaadinSession session;
 
@@ -148,6 +148,23 @@ public class StreamResourceRegistry implements Serializable {
      */
     public Optional<AbstractStreamResource> getResource(URI uri) {
         session.checkHasLock();
+        return getResourceWithoutLock(uri);
+    }
+
+    /**
+     * Get a registered resource for given {@code URI} without requiring the
+     * session lock.
+     * <p>
+     * This is meant for framework internal use by request handlers that do
+     * not lock the session. The returned resource must not be used without
+     * holding the session lock.
+     *
+     * @param uri
+     *            resource URI
+     * @return an optional resource, or an empty optional if no resource has
+     *         been registered with this URI
+     */
+    public Optional<AbstractStreamResource> getResourceWithoutLock(URI uri) {
         return Optional.ofNullable(res.get(uri));
     }
 
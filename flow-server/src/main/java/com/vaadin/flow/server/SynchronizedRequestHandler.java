@@ -22,6 +22,9 @@ import java.io.IOException;
  * automatically. The session is locked before
  * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
  * is called and unlocked after it has completed.
+ * <p>
+ * Handlers that only need concurrent access to the session can opt out of
+ * locking by overriding {@link #isSessionLockRequired(VaadinRequest)}.
  *
  * @author Vaadin Ltd
  * @since 1.0
@@ -35,6 +38,10 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
             return false;
         }
 
+        if (!isSessionLockRequired(request)) {
+            return synchronizedHandleRequest(session, request, response);
+        }
+
         session.lock();
         try {
             return synchronizedHandleRequest(session, request, response);
@@ -85,4 +92,27 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
         return true;
     }
 
+    /**
+     * Checks whether the session must be locked while handling the request.
+     * Handling a request with the session locked blocks all other requests to
+     * the same session until it has completed, also when they are not related
+     * to each other.
+     * <p>
+     * The default implementation returns <code>true</code>. Handlers that
+     * return <code>false</code> are called without locking the session and
+     * may only use session state that is safe for concurrent access, e.g.
+     * through {@link VaadinSession#access(Command)}
+     * for anything that requires the lock.
+     *
+     * @param request
+     *            the request to handle
+     * @return <code>true</code> if the session should be locked when calling
+     *         {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)};
+     *         <code>false</code> if the request can be handled concurrently
+     *         with other requests to the same session
+     */
+    protected boolean isSessionLockRequired(VaadinRequest request) {
+        return true;
+    }
+
 }
@@ -40,8 +40,12 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -52,6 +56,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.internal.DependencyTreeCache;
 import com.vaadin.flow.component.internal.HtmlImportParser;
 import com.vaadin.flow.di.DefaultInstantiator;
@@ -175,6 +180,15 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<DependencyFilter> dependencyFilters;
 
+    private List<RequestMetricsListener> requestMetricsListeners = Collections
+            .emptyList();
+
+    private AccessExecutor accessExecutor;
+
+    private final AccessQueueMetrics accessQueueMetrics = new AccessQueueMetrics();
+
+    private transient ScheduledExecutorService deferredPushScheduler;
+
     private boolean atmosphereAvailable = checkAtmosphereSupport();
 
     /**
@@ -195,6 +209,15 @@ public abstract class VaadinService implements Serializable {
 
     private DependencyTreeCache<String> htmlImportDependencyCache;
 
+    /**
+     * Locks guarding the creation of session locks, the length must be a power
+     * of two.
+     */
+    private final Lock[] sessionLockCreationStripes = createSessionLockCreationStripes(
+            64);
+
+    private final SessionLockWaitHistogram sessionLockWaitHistogram = new SessionLockWaitHistogram();
+
     private Registration htmlImportDependencyCacheClearRegistration;
 
     /**
@@ -250,6 +273,8 @@ public abstract class VaadinService implements Serializable {
     public void init() throws ServiceException {
         instantiator = createInstantiator();
 
+        accessExecutor = createAccessExecutor();
+
         // init the router now so that registry will be available for
         // modifications
         router = new Router(getRouteRegistry());
@@ -279,6 +304,8 @@ public abstract class VaadinService implements Serializable {
         bootstrapListeners = instantiator
                 .getBootstrapListeners(event.getAddedBootstrapListeners())
                 .collect(Collectors.toList());
+        requestMetricsListeners = event.getAddedRequestMetricsListeners()
+                .collect(Collectors.toList());
 
         if (!getDeploymentConfiguration().isProductionMode()) {
             Logger logger = getLogger();
@@ -315,6 +342,89 @@ public abstract class VaadinService implements Serializable {
         initialized = true;
     }
 
+    /**
+     * Called during initialization to create the executor used for purging the
+     * queues of {@link VaadinSession#access(Command)} tasks. By default, a
+     * {@link DefaultAccessExecutor} is created if
+     * {@link DeploymentConfiguration#isAccessExecutor()} is enabled.
+     *
+     * @return the access executor to use, or <code>null</code> to purge the
+     *         queues on the threads that enqueue tasks
+     * @see #ensureAccessQueuePurged(VaadinSession)
+     */
+    protected AccessExecutor createAccessExecutor() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        if (configuration.isAccessExecutor()) {
+            return new DefaultAccessExecutor(
+                    configuration.getAccessExecutorPoolSize());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the executor used for purging the queues of
+     * {@link VaadinSession#access(Command)} tasks.
+     *
+     * @return the access executor, or <code>null</code> if the queues are
+     *         purged on the threads that enqueue tasks
+     */
+    public AccessExecutor getAccessExecutor() {
+        return accessExecutor;
+    }
+
+    /**
+     * Gets the metrics of the access queue purges run by the
+     * {@link #getAccessExecutor() access executor} of this service.
+     *
+     * @return the access queue metrics, not <code>null</code>
+     */
+    public AccessQueueMetrics getAccessQueueMetrics() {
+        return accessQueueMetrics;
+    }
+
+    /**
+     * Schedules a push for a UI that has postponed its push because of its
+     * {@link com.vaadin.flow.component.PushConfiguration#setMinimumPushInterval(long)
+     * minimum push interval}. After the delay, the UI is accessed and all
+     * changes made in the meantime are pushed. This method should only be
+     * called by the framework.
+     *
+     * @param ui
+     *            the UI to push, not <code>null</code>
+     * @param delay
+     *            the delay in milliseconds
+     */
+    public void scheduleDeferredPush(UI ui, long delay) {
+        getDeferredPushScheduler().schedule(() -> runDeferredPush(ui), delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private static void runDeferredPush(UI ui) {
+        try {
+            ui.access(() -> {
+                ui.getInternals().setDeferredPushPending(false);
+                if (ui.getPushConfiguration().getPushMode().isEnabled()) {
+                    ui.push();
+                }
+            });
+        } catch (UIDetachedException e) {
+            getLogger().debug("Skipping postponed push for a detached UI", e);
+        }
+    }
+
+    private synchronized ScheduledExecutorService getDeferredPushScheduler() {
+        if (deferredPushScheduler == null) {
+            deferredPushScheduler = Executors
+                    .newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "vaadin-deferred-push");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return deferredPushScheduler;
+    }
+
     /**
      * Find a route registry to use for this service.
      *
@@ -595,6 +705,51 @@ public abstract class VaadinService implements Serializable {
                 .forEach(listener -> listener.modifyBootstrapPage(response));
     }
 
+    /**
+     * Checks whether there are any {@link BootstrapListener}s which could
+     * modify the bootstrap page.
+     *
+     * @return <code>true</code> if there are bootstrap listeners,
+     *         <code>false</code> otherwise
+     */
+    boolean hasBootstrapListeners() {
+        return bootstrapListeners != null
+                && bootstrapListeners.iterator().hasNext();
+    }
+
+    /**
+     * Checks whether there are any {@link RequestMetricsListener}s. Metrics
+     * for server round trips only need to be collected if there are.
+     *
+     * @return <code>true</code> if there are request metrics listeners,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasRequestMetricsListeners() {
+        return !requestMetricsListeners.isEmpty();
+    }
+
+    /**
+     * Fires the
+     * {@link RequestMetricsListener#requestCompleted(RequestMetricsEvent)}
+     * event to all registered {@link RequestMetricsListener}s. This is called
+     * internally when the response of a server round trip has been written.
+     *
+     * @param ui
+     *         the UI the round trip was made for
+     * @param metrics
+     *         the metrics collected for the round trip
+     * @param push
+     *         <code>true</code> if the response was sent through a push
+     *         connection, <code>false</code> otherwise
+     */
+    public void fireRequestMetrics(UI ui, RequestMetrics metrics,
+            boolean push) {
+        RequestMetricsEvent event = new RequestMetricsEvent(this, ui, metrics,
+                push);
+        requestMetricsListeners
+                .forEach(listener -> listener.requestCompleted(event));
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -750,19 +905,31 @@ public abstract class VaadinService implements Serializable {
             /*
              * No lock found in the session attribute. Ensure only one lock is
              * created and used by everybody by doing double checked locking.
+             * Lock creation is striped by session id so that creating locks
+             * for different sessions does not contend on the same lock.
              * Assumes there is a memory barrier for the attribute (i.e. that
              * the CPU flushes its caches and reads the value directly from main
              * memory).
              */
-            synchronized (VaadinService.class) {
+            Lock stripe = getSessionLockCreationStripe(wrappedSession);
+            stripe.lock();
+            try {
                 lock = getSessionLock(wrappedSession);
                 if (lock == null) {
                     lock = new ReentrantLock();
                     setSessionLock(wrappedSession, lock);
                 }
+            } finally {
+                stripe.unlock();
             }
         }
-        lock.lock();
+        if (lock.tryLock()) {
+            sessionLockWaitHistogram.record(0);
+        } else {
+            long start = System.nanoTime();
+            lock.lock();
+            sessionLockWaitHistogram.record(System.nanoTime() - start);
+        }
 
         try {
             // Someone might have invalidated the session between fetching the
@@ -776,6 +943,34 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    private static Lock[] createSessionLockCreationStripes(int count) {
+        Lock[] stripes = new Lock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    private Lock getSessionLockCreationStripe(
+            WrappedSession wrappedSession) {
+        int hash = wrappedSession.getId().hashCode();
+        // Spread the high bits since the stripe is picked by the low bits
+        hash ^= hash >>> 16;
+        return sessionLockCreationStripes[hash
+                & (sessionLockCreationStripes.length - 1)];
+    }
+
+    /**
+     * Gets the histogram of the time requests have waited for session locks of
+     * this service. The histogram can be used for monitoring lock contention
+     * between requests to the same session.
+     *
+     * @return the session lock wait time histogram, not <code>null</code>
+     */
+    public SessionLockWaitHistogram getSessionLockWaitHistogram() {
+        return sessionLockWaitHistogram;
+    }
+
     /**
      * Releases the lock for the given session for this service instance.
      * Typically you want to call {@link VaadinSession#unlock()} instead of this
@@ -1896,11 +2091,19 @@ public abstract class VaadinService implements Serializable {
      * thread, the queue will be purged when the session is unlocked. If the
      * lock is not held by any thread, it is acquired and the queue is purged
      * right away.
+     * <p>
+     * If this service has an {@link #getAccessExecutor() access executor}, the
+     * queue is purged on the executor instead of the current thread. At most
+     * one purge is scheduled per session at a time, so tasks enqueued before
+     * the purge starts are run together and their changes are pushed once.
      *
      * @param session
      *         the session for which the access queue should be purged
      */
     public void ensureAccessQueuePurged(VaadinSession session) {
+        if (accessExecutor != null && scheduleAccessQueuePurge(session)) {
+            return;
+        }
         /*
          * If no thread is currently holding the lock, pending changes for UIs
          * with automatic push would not be processed and pushed until the next
@@ -1925,6 +2128,59 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Schedules a purge of the access queue on the access executor, unless the
+     * session is locked or a purge is already scheduled.
+     *
+     * @return <code>true</code> if nothing more needs to be done,
+     *         <code>false</code> if the executor rejected the purge
+     */
+    private boolean scheduleAccessQueuePurge(VaadinSession session) {
+        Lock lock = session.getLockInstance();
+        if (lock instanceof ReentrantLock && ((ReentrantLock) lock).isLocked()) {
+            /*
+             * The queue is purged when the lock is released. The unlocking
+             * thread checks the queue again after releasing the lock, so tasks
+             * added in the meantime are not missed.
+             */
+            return true;
+        }
+
+        AtomicBoolean scheduled = session.getAccessQueuePurgeScheduled();
+        if (!scheduled.compareAndSet(false, true)) {
+            return true;
+        }
+
+        try {
+            accessExecutor.execute(() -> purgeAccessQueue(session));
+            accessQueueMetrics.purgeScheduled();
+            return true;
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            getLogger().debug(
+                    "Access executor rejected the task, purging the access queue of the session on the current thread",
+                    e);
+            return false;
+        }
+    }
+
+    private void purgeAccessQueue(VaadinSession session) {
+        session.lock();
+        try {
+            // Tasks enqueued from now on need a new purge
+            session.getAccessQueuePurgeScheduled().set(false);
+            accessQueueMetrics.purgeCompleted(
+                    session.getPendingAccessQueue().size());
+        } finally {
+            try {
+                // unlock runs the pending tasks and pushes the changes
+                session.unlock();
+            } catch (RuntimeException e) {
+                getLogger().error("Error while purging the access queue", e);
+            }
+        }
+    }
+
     /**
      * Purges the queue of pending access invocations enqueued with
      * {@link VaadinSession#access(Command)}.
@@ -1999,6 +2255,15 @@ public abstract class VaadinService implements Serializable {
     public void destroy() {
         htmlImportDependencyCacheClearRegistration.remove();
 
+        if (accessExecutor != null) {
+            accessExecutor.shutdown();
+        }
+        synchronized (this) {
+            if (deferredPushScheduler != null) {
+                deferredPushScheduler.shutdownNow();
+            }
+        }
+
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         serviceDestroyListeners
                 .forEach(listener -> listener.serviceDestroy(event));
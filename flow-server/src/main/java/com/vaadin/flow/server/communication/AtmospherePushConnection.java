@@ -21,6 +21,8 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -32,11 +34,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.server.RequestMetrics;
+import com.vaadin.flow.server.RequestMetrics.Phase;
 import com.vaadin.flow.shared.communication.PushConstants;
 
-import elemental.json.JsonObject;
-
 /**
  * A {@link PushConnection} implementation using the Atmosphere push support
  * that is by default included in Vaadin.
@@ -183,6 +186,21 @@ public class AtmospherePushConnection implements PushConnection {
      *            false if it is a response to a client request.
      */
     public void push(boolean async) {
+        push(async, false);
+    }
+
+    /**
+     * Pushes pending state changes and client RPC calls to the client. If
+     * {@code isConnected()} is false, defers the push until a connection is
+     * established. A deferred push does not resynchronize the client.
+     *
+     * @param async
+     *            True if this push asynchronously originates from the server,
+     *            false if it is a response to a client request.
+     * @param resync
+     *            True iff the client should be asked to resynchronize.
+     */
+    public void push(boolean async, boolean resync) {
         if (!isConnected()) {
             if (async && state != State.RESPONSE_PENDING) {
                 state = State.PUSH_PENDING;
@@ -190,12 +208,42 @@ public class AtmospherePushConnection implements PushConnection {
                 state = State.RESPONSE_PENDING;
             }
         } else {
+            UIInternals internals = getUI().getInternals();
+            RequestMetrics metrics = internals.getRequestMetrics();
+            // Server initiated pushes are round trips of their own
+            boolean pushMetrics = metrics == null
+                    && getUI().getSession().getService()
+                            .hasRequestMetricsListeners();
+            if (pushMetrics) {
+                metrics = new RequestMetrics();
+                internals.setRequestMetrics(metrics);
+            }
             try {
-                JsonObject response = new UidlWriter().createUidl(getUI(),
-                        async);
-                sendMessage("for(;;);[" + response.toJson() + "]");
+                StringWriter writer = new StringWriter();
+                writer.write("for(;;);[");
+                new UidlWriter().writeUidl(getUI(), async, resync, writer);
+                writer.write("]");
+                String message = writer.toString();
+                if (metrics == null) {
+                    sendMessage(message);
+                } else {
+                    long start = System.nanoTime();
+                    sendMessage(message);
+                    metrics.addPhaseTime(Phase.WRITE,
+                            System.nanoTime() - start);
+                    metrics.addResponseSize(
+                            message.getBytes(StandardCharsets.UTF_8).length);
+                }
             } catch (Exception e) {
                 throw new RuntimeException("Push failed", e);
+            } finally {
+                if (pushMetrics) {
+                    internals.setRequestMetrics(null);
+                }
+            }
+            if (pushMetrics) {
+                getUI().getSession().getService().fireRequestMetrics(getUI(),
+                        metrics, true);
             }
         }
     }
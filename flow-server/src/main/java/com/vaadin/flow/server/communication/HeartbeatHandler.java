@@ -17,11 +17,15 @@
 package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import javax.servlet.http.HttpServletResponse;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.component.internal.HeartbeatListener;
 import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.ServletHelper;
 import com.vaadin.flow.server.SessionExpiredHandler;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
@@ -50,6 +54,17 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         return ServletHelper.isRequestType(request, RequestType.HEARTBEAT);
     }
 
+    /**
+     * Heartbeat requests are handled without locking the session so that they
+     * are not blocked by other requests to the same session. The heartbeat
+     * timestamp is updated right away if the lock is free, and through
+     * {@link UI#access(Command)} otherwise.
+     */
+    @Override
+    protected boolean isSessionLockRequired(VaadinRequest request) {
+        return false;
+    }
+
     /**
      * Handles a heartbeat request for the given session. Reads the GET
      * parameter named {@link ApplicationConstants#UI_ID_PARAMETER} to identify
@@ -57,14 +72,15 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
      * {@link UIInternals#getLastHeartbeatTimestamp() heartbeat timestamp} to
      * the current time. Otherwise, writes a HTTP Not Found error to the
      * response.
+     * <p>
+     * The session is not locked when this method is called. The timestamp is
+     * set as soon as the session lock is available, without waiting for it.
      */
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
-        UI ui = session.getService().findUI(request);
-        if (ui != null) {
-            ui.getInternals()
-                    .setLastHeartbeatTimestamp(System.currentTimeMillis());
+        UI ui = findUI(session, request);
+        if (ui != null && updateHeartbeat(session, ui)) {
             // Ensure that the browser does not cache heartbeat responses.
             // iOS 6 Safari requires this (#10370)
             response.setHeader("Cache-Control", "no-cache");
@@ -79,6 +95,62 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         return true;
     }
 
+    /**
+     * Sets the heartbeat timestamp of the UI to the current time.
+     *
+     * @return <code>true</code> if the timestamp was or will be set,
+     *         <code>false</code> if the UI has been detached
+     */
+    private static boolean updateHeartbeat(VaadinSession session, UI ui) {
+        long timestamp = System.currentTimeMillis();
+        Lock lock = session.getLockInstance();
+        if (!lock.tryLock()) {
+            // Set when the thread holding the lock releases it
+            try {
+                ui.access(() -> ui.getInternals()
+                        .setLastHeartbeatTimestamp(timestamp));
+                return true;
+            } catch (UIDetachedException e) {
+                return false;
+            }
+        }
+        boolean pushNeeded = false;
+        try {
+            if (ui.getSession() != session) {
+                return false;
+            }
+            UIInternals internals = ui.getInternals();
+            // Only listeners can cause changes to push
+            pushNeeded = !internals.getListeners(HeartbeatListener.class)
+                    .isEmpty();
+            internals.setLastHeartbeatTimestamp(timestamp);
+            return true;
+        } finally {
+            if (pushNeeded) {
+                session.unlock();
+            } else {
+                lock.unlock();
+                if (!session.getPendingAccessQueue().isEmpty()) {
+                    session.getService().ensureAccessQueuePurged(session);
+                }
+            }
+        }
+    }
+
+    private static UI findUI(VaadinSession session, VaadinRequest request) {
+        String uiIdString = request
+                .getParameter(ApplicationConstants.UI_ID_PARAMETER);
+        if (uiIdString == null) {
+            return null;
+        }
+        try {
+            return session
+                    .getUIByIdWithoutLock(Integer.parseInt(uiIdString));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
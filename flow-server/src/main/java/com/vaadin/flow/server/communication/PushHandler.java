@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.server.ErrorEvent;
+import com.vaadin.flow.server.RequestMetrics;
 import com.vaadin.flow.server.ServletHelper;
 import com.vaadin.flow.server.SessionExpiredException;
 import com.vaadin.flow.server.SystemMessages;
@@ -39,6 +40,7 @@ import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinServletService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.ServerRpcHandler.ResynchronizationRequiredException;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.communication.PushMode;
@@ -129,19 +131,33 @@ public class PushHandler {
         VaadinRequest vaadinRequest = VaadinService.getCurrentRequest();
         assert vaadinRequest != null;
 
+        RequestMetrics metrics = ui.getSession().getService()
+                .hasRequestMetricsListeners() ? new RequestMetrics() : null;
+        ui.getInternals().setRequestMetrics(metrics);
         try {
             new ServerRpcHandler().handleRpc(ui, reader, vaadinRequest);
             connection.push(false);
+        } catch (ResynchronizationRequiredException e) {
+            // Resync on the client side
+            connection.push(false, true);
         } catch (JsonException e) {
             getLogger().error("Error writing JSON to response", e);
             // Refresh on client side
             sendRefreshAndDisconnect(resource);
+            return;
         } catch (InvalidUIDLSecurityKeyException e) {
             getLogger().warn(
                     "Invalid security key received from {}",
                     resource.getRequest().getRemoteHost());
             // Refresh on client side
             sendRefreshAndDisconnect(resource);
+            return;
+        } finally {
+            ui.getInternals().setRequestMetrics(null);
+        }
+
+        if (metrics != null) {
+            ui.getSession().getService().fireRequestMetrics(ui, metrics, true);
         }
     };
 
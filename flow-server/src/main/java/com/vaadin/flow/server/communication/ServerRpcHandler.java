@@ -36,6 +36,8 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.server.ErrorEvent;
+import com.vaadin.flow.server.RequestMetrics;
+import com.vaadin.flow.server.RequestMetrics.Phase;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.communication.rpc.AttachExistingElementRpcHandler;
@@ -216,6 +218,23 @@ public class ServerRpcHandler implements Serializable {
         }
     }
 
+    /**
+     * Exception thrown when the client side must be resynchronized by sending
+     * it the full state of the UI.
+     *
+     * @see UidlWriter#createUidl(UI, boolean, boolean)
+     */
+    public static class ResynchronizationRequiredException
+            extends RuntimeException {
+
+        /**
+         * Default constructor for the exception.
+         */
+        public ResynchronizationRequiredException() {
+            super();
+        }
+    }
+
     /**
      * Reads JSON containing zero or more serialized RPC calls (including legacy
      * variable changes) and executes the calls.
@@ -231,11 +250,18 @@ public class ServerRpcHandler implements Serializable {
      * @throws InvalidUIDLSecurityKeyException
      *             If the received security key does not match the one stored in
      *             the session.
+     * @throws ResynchronizationRequiredException
+     *             If the client side must be resynchronized, either because it
+     *             requested it or because the message id was not the expected
+     *             one.
      */
     public void handleRpc(UI ui, Reader reader, VaadinRequest request)
             throws IOException, InvalidUIDLSecurityKeyException {
         ui.getSession().setLastRequestTimestamp(System.currentTimeMillis());
 
+        RequestMetrics metrics = ui.getInternals().getRequestMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
+
         String changeMessage = getMessage(reader);
 
         if (changeMessage == null || changeMessage.equals("")) {
@@ -286,33 +312,35 @@ public class ServerRpcHandler implements Serializable {
                 message = "Unexpected message id from the client.";
             }
 
-            /*
-             * If the reason for ending up here is intermittent, then we should
-             * just issue a full resync since we cannot know the state of the
-             * client engine.
-             *
-             * There are reasons to believe that there are deterministic issues
-             * that trigger this condition, and we'd like to collect more data
-             * to uncover anything such before actually implementing the resync
-             * that would thus hide most symptoms of the actual root cause bugs.
-             */
             String messageStart = changeMessage;
             if (messageStart.length() > 1000) {
                 messageStart = messageStart.substring(0, 1000);
             }
-            throw new UnsupportedOperationException(
-                    message + " Expected sync id: " + expectedId + ", got "
-                            + requestId + ". Message start: " + messageStart);
+            getLogger().warn(
+                    "{} Expected sync id: {}, got {}. Message start: {}. "
+                            + "Resynchronizing the client.",
+                    message, expectedId, requestId, messageStart);
+
+            // The state of the client engine is unknown, so send the full
+            // state of the UI instead of processing the invocations
+            throw new ResynchronizationRequiredException();
         } else {
             // Message id ok, process RPCs
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
-            handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            if (metrics != null) {
+                long decoded = System.nanoTime();
+                metrics.addPhaseTime(Phase.RPC_DECODE, decoded - start);
+                handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+                metrics.addPhaseTime(Phase.RPC_HANDLING,
+                        System.nanoTime() - decoded);
+            } else {
+                handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            }
         }
 
         if (rpcRequest.isResynchronize()) {
-            // FIXME Implement
-            throw new UnsupportedOperationException("FIXME: Implement resync");
+            throw new ResynchronizationRequiredException();
         }
 
     }
@@ -15,6 +15,11 @@
  */
 package com.vaadin.flow.server.communication;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -23,6 +28,8 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileItemStream;
@@ -32,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.NoInputStreamException;
@@ -131,6 +139,9 @@ public class StreamReceiverHandler implements Serializable {
                     .isMultipartContent((HttpServletRequest) request)) {
                 doHandleMultipartFileUpload(session, request, response,
                         streamReceiver, source);
+            } else if (StreamRequestHandler.isAsyncStreamTransfer(request)) {
+                doHandleXhrFilePostAsync(session, request, response,
+                        streamReceiver, source, getContentLength(request));
             } else {
                 // if boundary string does not exist, the posted file is from
                 // XHR2.post(File)
@@ -244,10 +255,268 @@ public class StreamReceiverHandler implements Serializable {
         sendUploadResponse(response);
     }
 
-    private void handleFileUploadValidationAndData(VaadinSession session,
-            InputStream inputStream, StreamReceiver streamReceiver,
-            String filename, String mimeType, long contentLength,
-            StateNode node) throws UploadException {
+    /**
+     * Streams a plain file post (aka XHR2.post(File)) using asynchronous
+     * servlet I/O. The request data is read only when the container signals
+     * that it is available, so no request thread is occupied while waiting for
+     * a slow client.
+     */
+    private void doHandleXhrFilePostAsync(VaadinSession session,
+            VaadinRequest request, VaadinResponse response,
+            StreamReceiver streamReceiver, StateNode owner, long contentLength)
+            throws IOException {
+        final String filename = "unknown";
+        final String mimeType = filename;
+
+        AsyncUploadReader reader;
+        try {
+            validateUploadTarget(session, owner);
+            StreamVariable streamVariable = streamReceiver.getStreamVariable();
+            if (streamVariable == null) {
+                throw new IllegalStateException(
+                        "StreamVariable for the post not found");
+            }
+            reader = new AsyncUploadReader(session, response, streamReceiver,
+                    streamVariable, filename, mimeType, contentLength);
+        } catch (Exception e) {
+            session.lock();
+            try {
+                session.getErrorHandler().error(new ErrorEvent(e));
+            } finally {
+                session.unlock();
+            }
+            sendUploadResponse(response);
+            return;
+        }
+        try {
+            reader.start();
+        } catch (Exception e) {
+            reader.fail(e);
+            sendUploadResponse(response);
+            return;
+        }
+        AsyncContext context = ((HttpServletRequest) request).startAsync();
+        context.setTimeout(request.getService().getDeploymentConfiguration()
+                .getAsyncStreamTransferTimeout());
+        reader.listen(context);
+    }
+
+    /**
+     * Reads an upload from the request whenever the container signals that
+     * data is available and writes it to the stream variable.
+     */
+    private class AsyncUploadReader implements ReadListener {
+        private final VaadinSession session;
+        private final VaadinResponse response;
+        private final StreamReceiver streamReceiver;
+        private final StreamVariable streamVariable;
+        private final String filename;
+        private final String type;
+        private final long contentLength;
+        private final Map<Class<?>, CurrentInstance> instances;
+        private final StreamingStartEventImpl startedEvent;
+        private final byte[] buffer = new byte[MAX_UPLOAD_BUFFER_SIZE];
+
+        private AsyncContext context;
+        private ServletInputStream in;
+        private OutputStream out;
+        private boolean listenProgress;
+        private long totalBytes;
+        private long lastStreamingEvent;
+        private boolean done;
+
+        private AsyncUploadReader(VaadinSession session,
+                VaadinResponse response, StreamReceiver streamReceiver,
+                StreamVariable streamVariable, String filename, String type,
+                long contentLength) {
+            this.session = session;
+            this.response = response;
+            this.streamReceiver = streamReceiver;
+            this.streamVariable = streamVariable;
+            this.filename = filename;
+            this.type = type;
+            this.contentLength = contentLength;
+            instances = CurrentInstance.getInstances();
+            startedEvent = new StreamingStartEventImpl(filename, type,
+                    contentLength);
+        }
+
+        private void start() throws NoOutputStreamException {
+            session.lock();
+            try {
+                streamVariable.streamingStarted(startedEvent);
+                out = streamVariable.getOutputStream();
+                listenProgress = streamVariable.listenProgress();
+            } finally {
+                session.unlock();
+            }
+            if (out == null) {
+                throw new NoOutputStreamException();
+            }
+        }
+
+        private void listen(AsyncContext asyncContext) throws IOException {
+            context = asyncContext;
+            in = asyncContext.getRequest().getInputStream();
+            asyncContext.addListener(new AsyncListener() {
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    AsyncUploadReader.this.onError(
+                            new TimeoutException("Upload timed out"));
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                    // NOP
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    // NOP, the read listener is notified
+                }
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    // NOP
+                }
+            });
+            in.setReadListener(this);
+        }
+
+        /**
+         * Makes the instances that were current when the upload was started
+         * current for a container callback. Returns the previous instances to
+         * restore with {@link #restoreCurrentInstances(Map)}.
+         */
+        private Map<Class<?>, CurrentInstance> setCurrentInstances() {
+            Map<Class<?>, CurrentInstance> old = CurrentInstance
+                    .getInstances();
+            CurrentInstance.clearAll();
+            CurrentInstance.restoreInstances(instances);
+            return old;
+        }
+
+        private void restoreCurrentInstances(
+                Map<Class<?>, CurrentInstance> old) {
+            CurrentInstance.clearAll();
+            CurrentInstance.restoreInstances(old);
+        }
+
+        @Override
+        public void onDataAvailable() {
+            Map<Class<?>, CurrentInstance> old = setCurrentInstances();
+            try {
+                while (!done && in.isReady()) {
+                    int bytesReadToBuffer = in.read(buffer);
+                    if (bytesReadToBuffer < 0) {
+                        // onAllDataRead follows
+                        return;
+                    }
+                    out.write(buffer, 0, bytesReadToBuffer);
+                    totalBytes += bytesReadToBuffer;
+                    if (listenProgress) {
+                        lastStreamingEvent = updateProgress(session,
+                                streamVariable,
+                                new StreamingProgressEventImpl(filename, type,
+                                        contentLength, totalBytes),
+                                lastStreamingEvent, bytesReadToBuffer);
+                    }
+                    if (streamVariable.isInterrupted()) {
+                        throw new UploadInterruptedException();
+                    }
+                }
+            } catch (Exception e) {
+                fail(e);
+                complete();
+            } finally {
+                restoreCurrentInstances(old);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            if (done) {
+                return;
+            }
+            Map<Class<?>, CurrentInstance> old = setCurrentInstances();
+            try {
+                if (listenProgress) {
+                    updateProgress(session, streamVariable,
+                            new StreamingProgressEventImpl(filename, type,
+                                    contentLength, totalBytes),
+                            lastStreamingEvent, -1);
+                }
+                // upload successful
+                out.close();
+                StreamVariable.StreamingEndEvent event = new StreamingEndEventImpl(
+                        filename, type, totalBytes);
+                session.lock();
+                try {
+                    streamVariable.streamingFinished(event);
+                } finally {
+                    session.unlock();
+                }
+                if (startedEvent.isDisposed()) {
+                    cleanStreamVariable(session, streamReceiver);
+                }
+            } catch (Exception e) {
+                fail(e);
+            } finally {
+                complete();
+                restoreCurrentInstances(old);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            getLogger().debug("Asynchronous upload failed", throwable);
+            Map<Class<?>, CurrentInstance> old = setCurrentInstances();
+            try {
+                fail(throwable instanceof Exception ? (Exception) throwable
+                        : new UploadException(throwable.toString()));
+                done = true;
+                context.complete();
+            } finally {
+                restoreCurrentInstances(old);
+            }
+        }
+
+        private void fail(Exception exception) {
+            tryToCloseStream(out);
+            StreamVariable.StreamingErrorEvent event = new StreamingErrorEventImpl(
+                    filename, type, contentLength, totalBytes, exception);
+            session.lock();
+            try {
+                streamVariable.streamingFailed(event);
+                // Interruptions by application code are not errors
+                if (!(exception instanceof UploadInterruptedException)) {
+                    session.getErrorHandler().error(
+                            new ErrorEvent(new UploadException(exception)));
+                }
+            } finally {
+                session.unlock();
+            }
+        }
+
+        private void complete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                sendUploadResponse(response);
+            } catch (IOException e) {
+                getLogger().debug("Failed to send the upload response", e);
+            }
+            context.complete();
+        }
+    }
+
+    private void validateUploadTarget(VaadinSession session, StateNode node)
+            throws UploadException {
         session.lock();
         try {
             if (node == null) {
@@ -261,6 +530,13 @@ public class StreamReceiverHandler implements Serializable {
         } finally {
             session.unlock();
         }
+    }
+
+    private void handleFileUploadValidationAndData(VaadinSession session,
+            InputStream inputStream, StreamReceiver streamReceiver,
+            String filename, String mimeType, long contentLength,
+            StateNode node) throws UploadException {
+        validateUploadTarget(session, node);
         try {
             // Store ui reference so we can do cleanup even if node is
             // detached in some event handler
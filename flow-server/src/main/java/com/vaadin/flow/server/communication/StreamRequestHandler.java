@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.server.communication;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -70,18 +71,14 @@ public class StreamRequestHandler implements RequestHandler {
             return false;
         }
 
-        Optional<AbstractStreamResource> abstractStreamResource;
-        session.lock();
-        try {
-            abstractStreamResource = StreamRequestHandler.getPathUri(pathInfo)
-                    .flatMap(session.getResourceRegistry()::getResource);
-            if (!abstractStreamResource.isPresent()) {
-                response.sendError(HttpServletResponse.SC_NOT_FOUND,
-                        "Resource is not found for path=" + pathInfo);
-                return true;
-            }
-        } finally {
-            session.unlock();
+        // The registry can be queried without locking the session
+        Optional<AbstractStreamResource> abstractStreamResource = StreamRequestHandler
+                .getPathUri(pathInfo)
+                .flatMap(session.getResourceRegistry()::getResourceWithoutLock);
+        if (!abstractStreamResource.isPresent()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND,
+                    "Resource is not found for path=" + pathInfo);
+            return true;
         }
 
         if (abstractStreamResource.isPresent()) {
@@ -144,6 +141,22 @@ public class StreamRequestHandler implements RequestHandler {
         return builder.toString();
     }
 
+    /**
+     * Checks whether the data of the request should be transferred using
+     * asynchronous servlet I/O.
+     *
+     * @param request
+     *            the request to check
+     * @return <code>true</code> if asynchronous transfer is enabled in the
+     *         deployment configuration and supported for the request
+     */
+    static boolean isAsyncStreamTransfer(VaadinRequest request) {
+        return request instanceof HttpServletRequest
+                && ((HttpServletRequest) request).isAsyncSupported()
+                && request.getService().getDeploymentConfiguration()
+                        .isAsyncStreamTransfer();
+    }
+
     private static Optional<URI> getPathUri(String path) {
         int index = path.lastIndexOf('/');
         boolean hasPrefix = index >= 0;
@@ -15,8 +15,19 @@
  */
 package com.vaadin.flow.server.communication;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.internal.EntityTagUtil;
+import com.vaadin.flow.server.RangeStreamResourceWriter;
+import com.vaadin.flow.server.ReadableStreamResourceWriter;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.StreamResourceWriter;
 import com.vaadin.flow.server.VaadinRequest;
@@ -24,9 +35,21 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 
+import java.io.EOFException;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Handles {@link StreamResource} instances registered in {@link VaadinSession}.
@@ -37,9 +60,180 @@ import java.io.Serializable;
  */
 public class StreamResourceHandler implements Serializable {
 
+    /**
+     * The maximum number of ranges served for a request. Requests with more
+     * ranges are responded with the whole content.
+     */
+    private static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes";
+
+    private static final int ASYNC_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * A satisfiable byte range of a resource.
+     */
+    private static class ByteRange implements Serializable {
+        private final long first;
+        private final long last;
+
+        private ByteRange(long first, long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        private long getLength() {
+            return last - first + 1;
+        }
+
+        private String toContentRange(long contentLength) {
+            return BYTES_UNIT + ' ' + first + '-' + last + '/'
+                    + contentLength;
+        }
+    }
+
+    /**
+     * Copies data from a readable stream resource to the response whenever
+     * the container signals that the response can be written without
+     * blocking. No request thread is occupied while waiting for the client.
+     */
+    private static class AsyncContentWriter implements WriteListener {
+        private final AsyncContext context;
+        private final ServletOutputStream out;
+        private final VaadinSession session;
+        private final InputStream source;
+        private final boolean requiresLock;
+        private final Map<Class<?>, CurrentInstance> instances;
+        private final byte[] buffer = new byte[ASYNC_BUFFER_SIZE];
+        private long remaining;
+        private boolean done;
+
+        private AsyncContentWriter(AsyncContext context,
+                ServletOutputStream out, VaadinSession session,
+                InputStream source, boolean requiresLock, long length) {
+            this.context = context;
+            this.out = out;
+            this.session = session;
+            this.source = source;
+            this.requiresLock = requiresLock;
+            remaining = length;
+            instances = CurrentInstance.getInstances();
+            context.addListener(new AsyncListener() {
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    AsyncContentWriter.this.onError(
+                            new TimeoutException("Download timed out"));
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                    // NOP
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    // NOP, the write listener is notified
+                }
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    // NOP
+                }
+            });
+        }
+
+        @Override
+        public void onWritePossible() {
+            Map<Class<?>, CurrentInstance> old = setCurrentInstances();
+            try {
+                while (!done && out.isReady()) {
+                    int read = remaining == 0 ? -1 : read();
+                    if (read < 0) {
+                        finish();
+                    } else {
+                        out.write(buffer, 0, read);
+                        if (remaining > 0) {
+                            remaining -= read;
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                onError(e);
+            } finally {
+                restoreCurrentInstances(old);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            getLogger().debug("Asynchronous stream resource transfer failed",
+                    throwable);
+            Map<Class<?>, CurrentInstance> old = setCurrentInstances();
+            try {
+                finish();
+            } finally {
+                restoreCurrentInstances(old);
+            }
+        }
+
+        /**
+         * Makes the instances that were current when the transfer was started
+         * current for a container callback, since the resource stream may be
+         * read by application code. Returns the previous instances to restore
+         * with {@link #restoreCurrentInstances(Map)}.
+         */
+        private Map<Class<?>, CurrentInstance> setCurrentInstances() {
+            Map<Class<?>, CurrentInstance> old = CurrentInstance
+                    .getInstances();
+            CurrentInstance.clearAll();
+            CurrentInstance.restoreInstances(instances);
+            return old;
+        }
+
+        private static void restoreCurrentInstances(
+                Map<Class<?>, CurrentInstance> old) {
+            CurrentInstance.clearAll();
+            CurrentInstance.restoreInstances(old);
+        }
+
+        private int read() throws IOException {
+            int length = remaining < 0 ? buffer.length
+                    : (int) Math.min(buffer.length, remaining);
+            if (!requiresLock) {
+                return source.read(buffer, 0, length);
+            }
+            session.lock();
+            try {
+                return source.read(buffer, 0, length);
+            } finally {
+                session.unlock();
+            }
+        }
+
+        private void finish() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                source.close();
+            } catch (IOException e) {
+                getLogger().debug("Exception closing stream", e);
+            }
+            context.complete();
+        }
+    }
+
     /**
      * Handle sending for a stream resource request.
-     * 
+     * <p>
+     * The "ETag" and "Last-Modified" headers are written based on
+     * {@link StreamResource#getETag()} and
+     * {@link StreamResource#getLastModified()} and conditional requests are
+     * responded with <code>304 Not Modified</code> when the browser already
+     * has the current version. Byte range requests are supported if the
+     * resource writer is a {@link RangeStreamResourceWriter}.
+     *
      * @param session
      *            session for the request
      * @param request
@@ -57,24 +251,281 @@ public class StreamResourceHandler implements Serializable {
             throws IOException {
 
         StreamResourceWriter writer;
+        String contentType;
+        String eTag;
+        long lastModified;
         session.lock();
         try {
             ServletContext context = ((VaadinServletRequest) request)
                     .getServletContext();
-            response.setContentType(streamResource.getContentTypeResolver()
-                    .apply(streamResource, context));
+            contentType = streamResource.getContentTypeResolver()
+                    .apply(streamResource, context);
+            response.setContentType(contentType);
             response.setCacheTime(streamResource.getCacheTime());
             writer = streamResource.getWriter();
             if (writer == null) {
                 throw new IOException(
                         "Stream resource produces null input stream");
             }
+            eTag = streamResource.getETag();
+            lastModified = streamResource.getLastModified();
         } finally {
             session.unlock();
         }
+
+        if (lastModified >= 0) {
+            // HTTP dates have a precision of one second
+            lastModified -= lastModified % 1000;
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        if (eTag != null) {
+            response.setHeader("ETag", eTag);
+        }
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long contentLength = -1;
+        if (writer instanceof RangeStreamResourceWriter) {
+            try {
+                contentLength = ((RangeStreamResourceWriter) writer)
+                        .getContentLength(session);
+            } catch (FileNotFoundException e) {
+                getLogger().debug("Stream resource content not found", e);
+                response.sendError(HttpServletResponse.SC_NOT_FOUND,
+                        "Resource content is not found");
+                return;
+            }
+        }
+        if (contentLength < 0) {
+            writeContent(session, request, response, writer, 0, -1);
+            return;
+        }
+
+        RangeStreamResourceWriter rangeWriter = (RangeStreamResourceWriter) writer;
+        response.setHeader("Accept-Ranges", BYTES_UNIT);
+        List<ByteRange> ranges = getRequestedRanges(request, eTag,
+                lastModified, contentLength);
+        if (ranges == null) {
+            setContentLength(response, contentLength);
+            writeContent(session, request, response, writer, 0,
+                    contentLength);
+        } else if (ranges.isEmpty()) {
+            response.setStatus(
+                    HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader("Content-Range",
+                    BYTES_UNIT + " */" + contentLength);
+        } else if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range",
+                    range.toContentRange(contentLength));
+            setContentLength(response, range.getLength());
+            writeContent(session, request, response, writer, range.first,
+                    range.getLength());
+        } else {
+            String boundary = UUID.randomUUID().toString().replace("-", "");
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(
+                    "multipart/byteranges; boundary=" + boundary);
+            try (OutputStream outputStream = response.getOutputStream()) {
+                for (ByteRange range : ranges) {
+                    writeAscii(outputStream, "\r\n--" + boundary
+                            + "\r\nContent-Type: " + contentType
+                            + "\r\nContent-Range: "
+                            + range.toContentRange(contentLength)
+                            + "\r\n\r\n");
+                    rangeWriter.accept(outputStream, session, range.first,
+                            range.getLength());
+                }
+                writeAscii(outputStream, "\r\n--" + boundary + "--\r\n");
+            }
+        }
+    }
+
+    /**
+     * Writes the content of the resource to the response, asynchronously if
+     * enabled and supported by the writer.
+     *
+     * @param length
+     *            the number of bytes to write, or a negative value to write
+     *            all data of a writer which doesn't support ranges
+     */
+    private static void writeContent(VaadinSession session,
+            VaadinRequest request, VaadinResponse response,
+            StreamResourceWriter writer, long start, long length)
+            throws IOException {
+        if (writer instanceof ReadableStreamResourceWriter
+                && StreamRequestHandler.isAsyncStreamTransfer(request)) {
+            ReadableStreamResourceWriter readableWriter = (ReadableStreamResourceWriter) writer;
+            InputStream source = readableWriter.openStream(session);
+            if (source == null) {
+                throw new IOException(
+                        "Stream resource produces null input stream");
+            }
+            try {
+                skipFully(source, start);
+            } catch (IOException e) {
+                source.close();
+                throw e;
+            }
+            AsyncContext context = ((HttpServletRequest) request)
+                    .startAsync();
+            context.setTimeout(request.getService()
+                    .getDeploymentConfiguration()
+                    .getAsyncStreamTransferTimeout());
+            ServletOutputStream out = context.getResponse().getOutputStream();
+            out.setWriteListener(new AsyncContentWriter(context, out, session,
+                    source, readableWriter.requiresLock(), length));
+            return;
+        }
         try (OutputStream outputStream = response.getOutputStream()) {
-            writer.accept(outputStream, session);
+            if (length < 0) {
+                writer.accept(outputStream, session);
+            } else {
+                ((RangeStreamResourceWriter) writer).accept(outputStream,
+                        session, start, length);
+            }
+        }
+    }
+
+    private static void skipFully(InputStream stream, long count)
+            throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = stream.skip(remaining);
+            if (skipped <= 0) {
+                if (stream.read() == -1) {
+                    throw new EOFException(
+                            "Stream ended before the start of the range");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Checks whether the browser already has the current version of the
+     * resource based on the "If-None-Match" and "If-Modified-Since" headers.
+     * The latter is ignored if the former is present.
+     */
+    private static boolean isNotModified(VaadinRequest request, String eTag,
+            long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return EntityTagUtil.matchesIfNoneMatch(ifNoneMatch, eTag);
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            return ifModifiedSince >= lastModified;
+        } catch (IllegalArgumentException e) {
+            getLogger().trace("Unable to parse If-Modified-Since", e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the satisfiable ranges requested using the "Range" header.
+     *
+     * @return the satisfiable ranges, an empty list if none of the requested
+     *         ranges is satisfiable or <code>null</code> if the whole content
+     *         should be sent
+     */
+    private static List<ByteRange> getRequestedRanges(VaadinRequest request,
+            String eTag, long lastModified, long contentLength) {
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader == null
+                || !isIfRangeSatisfied(request, eTag, lastModified)) {
+            return null;
+        }
+        rangeHeader = rangeHeader.trim();
+        if (!rangeHeader.startsWith(BYTES_UNIT + '=')) {
+            return null;
+        }
+        String[] specs = rangeHeader.substring(BYTES_UNIT.length() + 1)
+                .split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
         }
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            String trimmed = spec.trim();
+            int dash = trimmed.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+            long first;
+            long last;
+            try {
+                if (dash == 0) {
+                    // Suffix range: the last N bytes
+                    long suffixLength = Long.parseLong(trimmed.substring(1));
+                    if (suffixLength == 0) {
+                        continue;
+                    }
+                    first = Math.max(0, contentLength - suffixLength);
+                    last = contentLength - 1;
+                } else {
+                    first = Long.parseLong(trimmed.substring(0, dash));
+                    last = dash == trimmed.length() - 1 ? contentLength - 1
+                            : Long.parseLong(trimmed.substring(dash + 1));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (first < 0 || last < first) {
+                return null;
+            }
+            if (first < contentLength) {
+                ranges.add(new ByteRange(first,
+                        Math.min(last, contentLength - 1)));
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Checks that the validator in the "If-Range" header, if any, matches the
+     * current version of the resource. Entity tags are compared using the
+     * strong comparison.
+     */
+    private static boolean isIfRangeSatisfied(VaadinRequest request,
+            String eTag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return eTag != null && !eTag.startsWith("W/")
+                    && eTag.equals(ifRange);
+        }
+        try {
+            return lastModified >= 0
+                    && request.getDateHeader("If-Range") == lastModified;
+        } catch (IllegalArgumentException e) {
+            getLogger().trace("Unable to parse If-Range", e);
+            return false;
+        }
+    }
+
+    private static void setContentLength(VaadinResponse response,
+            long contentLength) {
+        response.setHeader("Content-Length", Long.toString(contentLength));
+    }
+
+    private static void writeAscii(OutputStream stream, String text)
+            throws IOException {
+        stream.write(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(StreamResourceHandler.class.getName());
     }
 
 }
@@ -18,15 +18,19 @@ package com.vaadin.flow.server.communication;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.StringWriter;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.RequestMetrics;
+import com.vaadin.flow.server.RequestMetrics.Phase;
 import com.vaadin.flow.server.ServletHelper;
 import com.vaadin.flow.server.ServletHelper.RequestType;
 import com.vaadin.flow.server.SessionExpiredHandler;
@@ -36,10 +40,10 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.ServerRpcHandler.ResynchronizationRequiredException;
 import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonException;
-import elemental.json.JsonObject;
 
 /**
  * Processes a UIDL request from the client.
@@ -83,29 +87,50 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
             return true;
         }
 
-        StringWriter stringWriter = new StringWriter();
-
+        VaadinService service = session.getService();
+        RequestMetrics metrics = service.hasRequestMetricsListeners()
+                ? new RequestMetrics()
+                : null;
+        uI.getInternals().setRequestMetrics(metrics);
         try {
-            getRpcHandler(session).handleRpc(uI, request.getReader(), request);
-
-            writeUidl(uI, stringWriter);
-        } catch (JsonException e) {
-            getLogger().error("Error writing JSON to response", e);
-            // Refresh on client side
-            writeRefresh(response);
-            return true;
-        } catch (InvalidUIDLSecurityKeyException e) {
-            getLogger().warn(
-                    "Invalid security key received from {}",
-                    request.getRemoteHost());
-            // Refresh on client side
-            writeRefresh(response);
-            return true;
+            ByteArrayOutputStream uidl = new ByteArrayOutputStream();
+
+            try {
+                getRpcHandler(session).handleRpc(uI, request.getReader(),
+                        request);
+
+                writeUidl(uI, uidl, false);
+            } catch (ResynchronizationRequiredException e) {
+                // Resync on the client side
+                writeUidl(uI, uidl, true);
+            } catch (JsonException e) {
+                getLogger().error("Error writing JSON to response", e);
+                // Refresh on client side
+                writeRefresh(response);
+                return true;
+            } catch (InvalidUIDLSecurityKeyException e) {
+                getLogger().warn("Invalid security key received from {}",
+                        request.getRemoteHost());
+                // Refresh on client side
+                writeRefresh(response);
+                return true;
+            }
+
+            if (metrics == null) {
+                commitJsonResponse(response, uidl);
+            } else {
+                long start = System.nanoTime();
+                commitJsonResponse(response, uidl);
+                metrics.addPhaseTime(Phase.WRITE, System.nanoTime() - start);
+                metrics.addResponseSize(uidl.size());
+            }
         } finally {
-            stringWriter.close();
+            uI.getInternals().setRequestMetrics(null);
         }
 
-        commitJsonResponse(response, stringWriter.toString());
+        if (metrics != null) {
+            service.fireRequestMetrics(uI, metrics, false);
+        }
         return true;
     }
 
@@ -115,12 +140,16 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         commitJsonResponse(response, json);
     }
 
-    private static void writeUidl(UI ui, Writer writer) throws IOException {
-        JsonObject uidl = new UidlWriter().createUidl(ui, false);
+    private static void writeUidl(UI ui, OutputStream stream, boolean resync)
+            throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(stream, UTF_8));
 
         // some dirt to prevent cross site scripting
-        String responseString = "for(;;);[" + uidl.toJson() + "]";
-        writer.write(responseString);
+        writer.write("for(;;);[");
+        new UidlWriter().writeUidl(ui, false, resync, writer);
+        writer.write("]");
+        writer.flush();
     }
 
     private static final Logger getLogger() {
@@ -170,18 +199,44 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
      */
     public static void commitJsonResponse(VaadinResponse response, String json)
             throws IOException {
-        response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
-
-        // Ensure that the browser does not cache UIDL responses.
-        // iOS 6 Safari requires this (#9732)
-        response.setHeader("Cache-Control", "no-cache");
-
         byte[] b = json.getBytes(UTF_8);
-        response.setContentLength(b.length);
+        setJsonResponseHeaders(response, b.length);
 
         OutputStream outputStream = response.getOutputStream();
         outputStream.write(b);
         // NOTE GateIn requires the buffers to be flushed to work
         outputStream.flush();
     }
+
+    /**
+     * Commit the UTF-8 encoded JSON response buffered in the given stream. The
+     * buffer is written to the response as is, without copying it.
+     *
+     * @param response
+     *            The response to write to
+     * @param json
+     *            The buffer containing the UTF-8 encoded JSON to write
+     * @throws IOException
+     *             If there was an exception while writing to the output
+     */
+    private static void commitJsonResponse(VaadinResponse response,
+            ByteArrayOutputStream json) throws IOException {
+        setJsonResponseHeaders(response, json.size());
+
+        OutputStream outputStream = response.getOutputStream();
+        json.writeTo(outputStream);
+        // NOTE GateIn requires the buffers to be flushed to work
+        outputStream.flush();
+    }
+
+    private static void setJsonResponseHeaders(VaadinResponse response,
+            int contentLength) {
+        response.setContentType(JsonConstants.JSON_CONTENT_TYPE);
+
+        // Ensure that the browser does not cache UIDL responses.
+        // iOS 6 Safari requires this (#9732)
+        response.setHeader("Cache-Control", "no-cache");
+
+        response.setContentLength(contentLength);
+    }
 }
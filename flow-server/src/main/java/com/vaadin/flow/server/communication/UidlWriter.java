@@ -19,6 +19,8 @@ package com.vaadin.flow.server.communication;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.IOUtils;
@@ -42,14 +45,18 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
+import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
+import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.internal.change.NodeAttachChange;
 import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
 import com.vaadin.flow.server.DependencyFilter;
 import com.vaadin.flow.server.DependencyFilter.FilterContext;
+import com.vaadin.flow.server.RequestMetrics;
+import com.vaadin.flow.server.RequestMetrics.Phase;
 import com.vaadin.flow.server.SystemMessages;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -64,6 +71,7 @@ import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.JsonValue;
+import elemental.json.impl.JsonUtil;
 
 /**
  * Serializes pending server-side changes to UI state to JSON. This includes
@@ -141,16 +149,106 @@ public class UidlWriter implements Serializable {
      * @return JSON object containing the UIDL response
      */
     public JsonObject createUidl(UI ui, boolean async) {
+        return createUidl(ui, async, false);
+    }
+
+    /**
+     * Creates a JSON object containing all pending changes to the given UI.
+     * <p>
+     * When resynchronizing, the response contains the full state of the UI
+     * instead of only the pending changes and instructs the client to replace
+     * its state tree with it.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message.
+     * @param resync
+     *            True iff the client should be asked to resynchronize.
+     * @return JSON object containing the UIDL response
+     */
+    public JsonObject createUidl(UI ui, boolean async, boolean resync) {
         JsonObject response = Json.createObject();
+        JsonObjectSink sink = new JsonObjectSink(response);
+        encodeUidl(ui, async, resync, sink);
+        sink.finish();
+        return response;
+    }
+
+    /**
+     * Writes all pending changes to the given UI as a JSON object to the given
+     * writer.
+     * <p>
+     * The result is the same as serializing the object returned by
+     * {@link #createUidl(UI, boolean)}, but state changes are written to the
+     * writer as they are collected from the state tree without first building
+     * the full response in memory.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message.
+     * @param writer
+     *            the writer to write the UIDL response to, not
+     *            <code>null</code>
+     * @throws IOException
+     *             if writing to the writer fails
+     */
+    public void writeUidl(UI ui, boolean async, Writer writer)
+            throws IOException {
+        writeUidl(ui, async, false, writer);
+    }
 
+    /**
+     * Writes all pending changes to the given UI as a JSON object to the given
+     * writer.
+     * <p>
+     * The result is the same as serializing the object returned by
+     * {@link #createUidl(UI, boolean, boolean)}.
+     *
+     * @param ui
+     *            The {@link UI} whose changes to write
+     * @param async
+     *            True if this message is sent by the server asynchronously,
+     *            false if it is a response to a client message.
+     * @param resync
+     *            True iff the client should be asked to resynchronize.
+     * @param writer
+     *            the writer to write the UIDL response to, not
+     *            <code>null</code>
+     * @throws IOException
+     *             if writing to the writer fails
+     */
+    public void writeUidl(UI ui, boolean async, boolean resync, Writer writer)
+            throws IOException {
+        WriterSink sink = new WriterSink(Objects.requireNonNull(writer));
+        try {
+            encodeUidl(ui, async, resync, sink);
+            sink.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void encodeUidl(UI ui, boolean async, boolean resync,
+            UidlSink sink) {
         UIInternals uiInternals = ui.getInternals();
 
         VaadinSession session = ui.getSession();
         VaadinService service = session.getService();
+        RequestMetrics metrics = uiInternals.getRequestMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
 
         // Purge pending access calls as they might produce additional changes
         // to write out
         service.runPendingAccessTasks(session);
+        if (metrics != null) {
+            long accessTasksDone = System.nanoTime();
+            metrics.addPhaseTime(Phase.RPC_HANDLING, accessTasksDone - start);
+            start = accessTasksDone;
+        }
 
         // Paints components
         getLogger().debug("* Creating response to client");
@@ -159,11 +257,14 @@ public class UidlWriter implements Serializable {
                 ? uiInternals.getServerSyncId()
                 : -1;
 
-        response.put(ApplicationConstants.SERVER_SYNC_ID, syncId);
+        sink.put(ApplicationConstants.SERVER_SYNC_ID, Json.create(syncId));
         int nextClientToServerMessageId = uiInternals
                 .getLastProcessedClientToServerId() + 1;
-        response.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
-                nextClientToServerMessageId);
+        sink.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
+                Json.create(nextClientToServerMessageId));
+        if (resync) {
+            sink.put(ApplicationConstants.RESYNCHRONIZE_ID, Json.create(true));
+        }
 
         SystemMessages messages = ui.getSession().getService()
                 .getSystemMessages(ui.getLocale(), null);
@@ -171,39 +272,48 @@ public class UidlWriter implements Serializable {
         JsonObject meta = new MetadataWriter().createMetadata(ui, false, async,
                 messages);
         if (meta.keys().length > 0) {
-            response.put("meta", meta);
+            sink.put("meta", meta);
         }
 
-        JsonArray stateChanges = Json.createArray();
+        if (resync) {
+            // The client discards its state tree and might have missed
+            // constants sent in a lost response
+            uiInternals.getStateTree().prepareForResync();
+            uiInternals.getConstantPool().clear();
+        }
 
-        encodeChanges(ui, stateChanges);
+        // Changes must be encoded before dependencies and constants since
+        // encoding them registers both component dependencies and constants
+        long nonEncodingNanos = encodeChanges(ui, sink::addChange, metrics);
+        sink.endChanges();
 
-        populateDependencies(response, uiInternals.getDependencyList(),
+        populateDependencies(sink, uiInternals.getDependencyList(),
                 new ResolveContext(service, session.getBrowser(), null));
 
         if (uiInternals.getConstantPool().hasNewConstants()) {
-            response.put("constants",
+            sink.put("constants",
                     uiInternals.getConstantPool().dumpConstants());
         }
-        if (stateChanges.length() != 0) {
-            response.put("changes", stateChanges);
-        }
 
         List<JavaScriptInvocation> executeJavaScriptList = uiInternals
                 .dumpPendingJavaScriptInvocations();
         if (!executeJavaScriptList.isEmpty()) {
-            response.put(JsonConstants.UIDL_KEY_EXECUTE,
+            sink.put(JsonConstants.UIDL_KEY_EXECUTE,
                     encodeExecuteJavaScriptList(executeJavaScriptList));
         }
         if (ui.getSession().getService().getDeploymentConfiguration()
                 .isRequestTiming()) {
-            response.put("timings", createPerformanceData(ui));
+            sink.put("timings", createPerformanceData(ui));
         }
         uiInternals.incrementServerId();
-        return response;
+
+        if (metrics != null) {
+            metrics.addPhaseTime(Phase.ENCODING,
+                    System.nanoTime() - start - nonEncodingNanos);
+        }
     }
 
-    private static void populateDependencies(JsonObject response,
+    private static void populateDependencies(UidlSink sink,
             DependencyList dependencyList, ResolveContext context) {
         Collection<Dependency> pendingSendToClient = dependencyList
                 .getPendingSendToClient();
@@ -219,7 +329,7 @@ public class UidlWriter implements Serializable {
 
         if (!pendingSendToClient.isEmpty()) {
             groupDependenciesByLoadMode(pendingSendToClient, context)
-                    .forEach((loadMode, dependencies) -> response
+                    .forEach((loadMode, dependencies) -> sink
                             .put(loadMode.name(), dependencies));
         }
         dependencyList.clearPendingSendToClient();
@@ -324,17 +434,25 @@ public class UidlWriter implements Serializable {
      * @param ui
      *            the UI
      * @param stateChanges
-     *            a JSON array to put state changes into
+     *            a consumer to pass the encoded state changes to
+     * @param metrics
+     *            the metrics to record the phase times and change counts to,
+     *            or <code>null</code> if metrics are not collected
+     * @return the nanoseconds spent running the executions and collecting the
+     *         changes, excluding the time spent encoding them, or
+     *         <code>0</code> if metrics are not collected
      * @see StateTree#runExecutionsBeforeClientResponse()
      */
-    private void encodeChanges(UI ui, JsonArray stateChanges) {
+    private long encodeChanges(UI ui, Consumer<JsonValue> stateChanges,
+            RequestMetrics metrics) {
         UIInternals uiInternals = ui.getInternals();
         StateTree stateTree = uiInternals.getStateTree();
 
+        long start = metrics == null ? 0 : System.nanoTime();
         stateTree.runExecutionsBeforeClientResponse();
 
         Set<Class<? extends Component>> componentsWithDependencies = new LinkedHashSet<>();
-        stateTree.collectChanges(change -> {
+        SerializableConsumer<NodeChange> changeEncoder = change -> {
             if (attachesComponent(change)) {
                 ComponentMapping.getComponent(change.getNode())
                         .ifPresent(component -> addComponentHierarchy(ui,
@@ -342,12 +460,62 @@ public class UidlWriter implements Serializable {
             }
 
             // Encode the actual change
-            stateChanges.set(stateChanges.length(),
-                    change.toJson(uiInternals.getConstantPool()));
-        });
+            stateChanges.accept(change.toJson(uiInternals.getConstantPool()));
+        };
+
+        long nonEncodingNanos = 0;
+        if (metrics == null) {
+            stateTree.collectChanges(changeEncoder);
+        } else {
+            long collectStart = System.nanoTime();
+            long beforeClientResponseNanos = collectStart - start;
+            metrics.addPhaseTime(Phase.BEFORE_CLIENT_RESPONSE,
+                    beforeClientResponseNanos);
+            ChangeEncodingTimer timer = new ChangeEncodingTimer(changeEncoder);
+            stateTree.collectChanges(timer);
+            long collectionNanos = System.nanoTime() - collectStart
+                    - timer.encodingNanos;
+            metrics.addPhaseTime(Phase.CHANGE_COLLECTION, collectionNanos);
+            metrics.addDirtyNodeCount(timer.nodeCount);
+            metrics.addChangeCount(timer.changeCount);
+            nonEncodingNanos = beforeClientResponseNanos + collectionNanos;
+        }
 
         componentsWithDependencies
                 .forEach(uiInternals::addComponentDependencies);
+
+        return nonEncodingNanos;
+    }
+
+    /**
+     * Counts the collected changes and measures the time spent encoding them,
+     * so that it can be told apart from the time spent collecting them.
+     */
+    private static class ChangeEncodingTimer
+            implements SerializableConsumer<NodeChange> {
+        private final SerializableConsumer<NodeChange> encoder;
+        private StateNode lastNode;
+        private int nodeCount;
+        private int changeCount;
+        private long encodingNanos;
+
+        private ChangeEncodingTimer(SerializableConsumer<NodeChange> encoder) {
+            this.encoder = encoder;
+        }
+
+        @Override
+        public void accept(NodeChange change) {
+            // Changes are collected node by node
+            if (change.getNode() != lastNode) {
+                lastNode = change.getNode();
+                nodeCount++;
+            }
+            changeCount++;
+
+            long start = System.nanoTime();
+            encoder.accept(change);
+            encodingNanos += System.nanoTime() - start;
+        }
     }
 
     private static boolean attachesComponent(NodeChange change) {
@@ -376,6 +544,108 @@ public class UidlWriter implements Serializable {
         return timings;
     }
 
+    /**
+     * Receives the sections of a UIDL response in the order they are produced.
+     * State changes are passed one by one and are followed by a call to
+     * {@link #endChanges()}.
+     */
+    private interface UidlSink extends Serializable {
+        void put(String key, JsonValue value);
+
+        void addChange(JsonValue change);
+
+        void endChanges();
+    }
+
+    private static class JsonObjectSink implements UidlSink {
+        private final JsonObject response;
+        private final JsonArray stateChanges = Json.createArray();
+
+        private JsonObjectSink(JsonObject response) {
+            this.response = response;
+        }
+
+        @Override
+        public void put(String key, JsonValue value) {
+            response.put(key, value);
+        }
+
+        @Override
+        public void addChange(JsonValue change) {
+            stateChanges.set(stateChanges.length(), change);
+        }
+
+        @Override
+        public void endChanges() {
+            // Changes are added last to keep the key order of the response
+        }
+
+        private void finish() {
+            if (stateChanges.length() != 0) {
+                response.put("changes", stateChanges);
+            }
+        }
+    }
+
+    private static class WriterSink implements UidlSink {
+        private final Writer writer;
+        private boolean firstKey = true;
+        private boolean inChanges;
+
+        private WriterSink(Writer writer) {
+            this.writer = writer;
+            write("{");
+        }
+
+        @Override
+        public void put(String key, JsonValue value) {
+            writeKey(key);
+            write(value.toJson());
+        }
+
+        @Override
+        public void addChange(JsonValue change) {
+            if (inChanges) {
+                write(",");
+            } else {
+                writeKey("changes");
+                write("[");
+                inChanges = true;
+            }
+            write(change.toJson());
+        }
+
+        @Override
+        public void endChanges() {
+            if (inChanges) {
+                write("]");
+                inChanges = false;
+            }
+        }
+
+        private void finish() {
+            endChanges();
+            write("}");
+        }
+
+        private void writeKey(String key) {
+            if (!firstKey) {
+                write(",");
+            }
+            firstKey = false;
+            write(JsonUtil.quote(key));
+            write(":");
+        }
+
+        private void write(String value) {
+            try {
+                writer.write(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     private static final Logger getLogger() {
         return LoggerFactory.getLogger(UidlWriter.class.getName());
     }
@@ -172,11 +172,22 @@ public class RouteTarget implements Serializable {
      * @return navigation target corresponding to given segments
      */
     public Class<? extends Component> getTarget(List<String> segments) {
-        if (segments.isEmpty() && normal != null) {
+        return getTarget(segments.size());
+    }
+
+    /**
+     * Get route target for the given number of route segments.
+     *
+     * @param segmentCount
+     *         the number of route segments
+     * @return navigation target corresponding to the number of segments
+     */
+    public Class<? extends Component> getTarget(int segmentCount) {
+        if (segmentCount == 0 && normal != null) {
             return normal;
-        } else if (segments.size() == 1 && parameter != null) {
+        } else if (segmentCount == 1 && parameter != null) {
             return parameter;
-        } else if (segments.size() <= 1 && optionalParameter != null) {
+        } else if (segmentCount <= 1 && optionalParameter != null) {
             return optionalParameter;
         } else if (wildCardParameter != null) {
             return wildCardParameter;
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hamcrest.CoreMatchers;
@@ -29,6 +30,7 @@ import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializableRunnable;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.PushConfigurationMap;
 import com.vaadin.flow.router.AfterNavigationEvent;
 import com.vaadin.flow.router.AfterNavigationListener;
 import com.vaadin.flow.router.BeforeEnterEvent;
@@ -55,6 +57,8 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServlet;
 import com.vaadin.flow.server.VaadinServletRequest;
+import com.vaadin.flow.server.communication.PushConnection;
+import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.tests.util.AlwaysLockedVaadinSession;
 import com.vaadin.tests.util.MockUI;
 
@@ -789,4 +793,73 @@ public class UITest {
         assertEquals("Handler should have run once", 1, runCount.get());
     }
 
+    @Test
+    public void push_minimumPushInterval_pushesWithinIntervalDeferred() {
+        List<UI> deferredPushes = new ArrayList<>();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            public void scheduleDeferredPush(UI ui, long delay) {
+                Assert.assertTrue(delay > 0);
+                deferredPushes.add(ui);
+            }
+        };
+        MockUI ui = new MockUI(new AlwaysLockedVaadinSession(service));
+        ui.getInternals().getStateTree().getRootNode()
+                .getFeature(PushConfigurationMap.class)
+                .setPushMode(PushMode.MANUAL);
+        PushConnection pushConnection = Mockito.mock(PushConnection.class);
+        ui.getInternals().setPushConnection(pushConnection);
+        ui.getPushConfiguration().setMinimumPushInterval(60000);
+
+        ui.getElement().setProperty("foo", "bar");
+        ui.push();
+        Mockito.verify(pushConnection, Mockito.times(1)).push();
+
+        ui.push();
+        ui.push();
+        Mockito.verify(pushConnection, Mockito.times(1)).push();
+        Assert.assertEquals(Collections.singletonList(ui), deferredPushes);
+        Assert.assertTrue(ui.getInternals().isDeferredPushPending());
+    }
+
+    @Test
+    public void push_minimumPushInterval_schedulingRejected_pushedRightAway() {
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            public void scheduleDeferredPush(UI ui, long delay) {
+                throw new RejectedExecutionException();
+            }
+        };
+        MockUI ui = new MockUI(new AlwaysLockedVaadinSession(service));
+        ui.getInternals().getStateTree().getRootNode()
+                .getFeature(PushConfigurationMap.class)
+                .setPushMode(PushMode.MANUAL);
+        PushConnection pushConnection = Mockito.mock(PushConnection.class);
+        ui.getInternals().setPushConnection(pushConnection);
+        ui.getPushConfiguration().setMinimumPushInterval(60000);
+
+        ui.getElement().setProperty("foo", "bar");
+        ui.push();
+        ui.push();
+
+        Mockito.verify(pushConnection, Mockito.times(2)).push();
+        Assert.assertFalse(ui.getInternals().isDeferredPushPending());
+    }
+
+    @Test
+    public void push_noMinimumPushInterval_allPushesSent() {
+        MockUI ui = new MockUI(
+                new AlwaysLockedVaadinSession(new MockVaadinServletService()));
+        ui.getInternals().getStateTree().getRootNode()
+                .getFeature(PushConfigurationMap.class)
+                .setPushMode(PushMode.MANUAL);
+        PushConnection pushConnection = Mockito.mock(PushConnection.class);
+        ui.getInternals().setPushConnection(pushConnection);
+
+        ui.getElement().setProperty("foo", "bar");
+        ui.push();
+        ui.push();
+
+        Mockito.verify(pushConnection, Mockito.times(2)).push();
+    }
 }
@@ -27,6 +27,30 @@ import elemental.json.JsonObject;
 public class ConstantPoolTest {
     private ConstantPool constantPool = new ConstantPool();
 
+    private static class CollidingKey extends ConstantPoolKey {
+        private final long checkHash;
+
+        private CollidingKey(String value, long checkHash) {
+            super(Json.create(value));
+            this.checkHash = checkHash;
+        }
+
+        @Override
+        public String getId() {
+            return "collision";
+        }
+
+        @Override
+        String getLongId() {
+            return "collision" + checkHash;
+        }
+
+        @Override
+        long getCheckHash() {
+            return checkHash;
+        }
+    }
+
     @Test
     public void newConstantPool_noNewItems() {
         Assert.assertFalse(constantPool.hasNewConstants());
@@ -47,6 +71,21 @@ public class ConstantPoolTest {
         Assert.assertEquals("{}", dump.get(constantId).toJson());
     }
 
+    @Test
+    public void clear_knownValueIsNewAgain() {
+        ConstantPoolKey reference = new ConstantPoolKey(Json.createObject());
+
+        String constantId = constantPool.getConstantId(reference);
+        constantPool.dumpConstants();
+
+        constantPool.clear();
+        Assert.assertFalse(constantPool.hasNewConstants());
+
+        Assert.assertEquals(constantId, constantPool
+                .getConstantId(new ConstantPoolKey(Json.createObject())));
+        Assert.assertTrue(constantPool.hasNewConstants());
+    }
+
     @Test
     public void sameValue_sameId() {
         ConstantPoolKey reference = new ConstantPoolKey(Json.createObject());
@@ -74,4 +113,44 @@ public class ConstantPoolTest {
         Assert.assertNotEquals(constantId, otherId);
         Assert.assertTrue(constantPool.hasNewConstants());
     }
+
+    @Test
+    public void id_shortAndStable() {
+        ConstantPoolKey key = new ConstantPoolKey(Json.create("[1,\"foo\"]"));
+
+        Assert.assertEquals(11, key.getId().length());
+        Assert.assertEquals(key.getId(),
+                new ConstantPoolKey(Json.create("[1,\"foo\"]")).getId());
+        Assert.assertNotEquals(key.getId(),
+                new ConstantPoolKey(Json.create("[1,\"fop\"]")).getId());
+    }
+
+    @Test
+    public void hashCollision_longIdUsedForOtherValue() {
+        String first = constantPool.getConstantId(new CollidingKey("x", 1));
+        String second = constantPool.getConstantId(new CollidingKey("y", 2));
+
+        Assert.assertEquals("collision", first);
+        Assert.assertEquals("collision2", second);
+        Assert.assertEquals(2, constantPool.dumpConstants().keys().length);
+
+        Assert.assertEquals(second,
+                constantPool.getConstantId(new CollidingKey("y", 2)));
+        Assert.assertFalse(constantPool.hasNewConstants());
+    }
+
+    @Test
+    public void clear_idNotReusedForOtherValue() {
+        String first = constantPool.getConstantId(new CollidingKey("x", 1));
+        constantPool.dumpConstants();
+
+        constantPool.clear();
+
+        Assert.assertNotEquals(first,
+                constantPool.getConstantId(new CollidingKey("y", 2)));
+        Assert.assertEquals(first,
+                constantPool.getConstantId(new CollidingKey("x", 1)));
+        JsonObject dump = constantPool.dumpConstants();
+        Assert.assertEquals("\"x\"", dump.get(first).toJson());
+    }
 }
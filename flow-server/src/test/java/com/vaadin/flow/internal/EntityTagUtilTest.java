@@ -0,0 +1,62 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EntityTagUtilTest {
+
+    @Test
+    public void matchesIfNoneMatch_sameTag_matches() {
+        Assert.assertTrue(
+                EntityTagUtil.matchesIfNoneMatch("\"foo\"", "\"foo\""));
+        Assert.assertFalse(
+                EntityTagUtil.matchesIfNoneMatch("\"bar\"", "\"foo\""));
+    }
+
+    @Test
+    public void matchesIfNoneMatch_weakTags_comparedWeakly() {
+        Assert.assertTrue(
+                EntityTagUtil.matchesIfNoneMatch("W/\"foo\"", "\"foo\""));
+        Assert.assertTrue(
+                EntityTagUtil.matchesIfNoneMatch("\"foo\"", "W/\"foo\""));
+    }
+
+    @Test
+    public void matchesIfNoneMatch_list_anyTagMatches() {
+        Assert.assertTrue(EntityTagUtil
+                .matchesIfNoneMatch("\"bar\", W/\"foo\"", "\"foo\""));
+        Assert.assertTrue(
+                EntityTagUtil.matchesIfNoneMatch("\"a,b\",\"foo\"", "\"foo\""));
+        Assert.assertFalse(
+                EntityTagUtil.matchesIfNoneMatch("\"a,foo\"", "\"foo\""));
+    }
+
+    @Test
+    public void matchesIfNoneMatch_asterisk_matchesAnyTag() {
+        Assert.assertTrue(EntityTagUtil.matchesIfNoneMatch("*", "\"foo\""));
+        Assert.assertFalse(EntityTagUtil.matchesIfNoneMatch("*", null));
+    }
+
+    @Test
+    public void matchesIfNoneMatch_malformedElement_skipped() {
+        Assert.assertTrue(EntityTagUtil.matchesIfNoneMatch("foo, \"foo\"",
+                "\"foo\""));
+        Assert.assertFalse(EntityTagUtil.matchesIfNoneMatch("\"foo",
+                "\"foo\""));
+    }
+}
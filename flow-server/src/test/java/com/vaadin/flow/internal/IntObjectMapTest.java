@@ -0,0 +1,113 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntObjectMapTest {
+    private IntObjectMap<String> map = new IntObjectMap<>();
+
+    @Test
+    public void emptyMap_nothingFound() {
+        Assert.assertEquals(0, map.size());
+        Assert.assertNull(map.get(1));
+        Assert.assertFalse(map.containsKey(1));
+        Assert.assertNull(map.remove(1));
+    }
+
+    @Test
+    public void nonPositiveKey_nothingFound() {
+        Assert.assertNull(map.get(0));
+        Assert.assertNull(map.get(-1));
+        Assert.assertNull(map.remove(-1));
+    }
+
+    @Test
+    public void putGetRemove() {
+        Assert.assertNull(map.put(1, "foo"));
+        Assert.assertEquals("foo", map.get(1));
+        Assert.assertTrue(map.containsKey(1));
+
+        Assert.assertEquals("foo", map.put(1, "bar"));
+        Assert.assertEquals("bar", map.get(1));
+        Assert.assertEquals(1, map.size());
+
+        Assert.assertEquals("bar", map.remove(1));
+        Assert.assertNull(map.get(1));
+        Assert.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void manyKeys_growAndShrink() {
+        for (int i = 1; i <= 1000; i++) {
+            map.put(i, "v" + i);
+        }
+        Assert.assertEquals(1000, map.size());
+        for (int i = 1; i <= 1000; i++) {
+            Assert.assertEquals("v" + i, map.get(i));
+        }
+
+        for (int i = 1; i <= 990; i++) {
+            Assert.assertEquals("v" + i, map.remove(i));
+        }
+        Assert.assertEquals(10, map.size());
+        for (int i = 991; i <= 1000; i++) {
+            Assert.assertEquals("v" + i, map.get(i));
+        }
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            int key = 1 + random.nextInt(500);
+            String value = String.valueOf(i);
+            switch (random.nextInt(3)) {
+            case 0:
+                Assert.assertEquals(expected.put(key, value),
+                        map.put(key, value));
+                break;
+            case 1:
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+                break;
+            default:
+                Assert.assertEquals(expected.get(key), map.get(key));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+    }
+
+    @Test
+    public void serializable() {
+        map.put(1, "foo");
+        map.put(17, "bar");
+
+        IntObjectMap<String> copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(map));
+
+        Assert.assertEquals(2, copy.size());
+        Assert.assertEquals("foo", copy.get(1));
+        Assert.assertEquals("bar", copy.get(17));
+    }
+}
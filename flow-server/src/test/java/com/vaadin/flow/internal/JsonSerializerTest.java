@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import com.vaadin.flow.internal.JsonSerializer;
 
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonBoolean;
 import elemental.json.JsonNull;
@@ -280,6 +281,13 @@ public class JsonSerializerTest {
         }
     }
 
+    public static class ObjectWithFailingGetter {
+
+        public String getValue() {
+            throw new IllegalStateException("Not available");
+        }
+    }
+
     @Test
     public void serializeBasicTypes_returnJsonBasicTypes() {
         JsonValue json = JsonSerializer.toJson("someString");
@@ -717,6 +725,54 @@ public class JsonSerializerTest {
         }
     }
 
+    @Test
+    public void writeBeanProperties_bean_propertiesAddedToTarget() {
+        ObjectWithSimpleTypes bean = new ObjectWithSimpleTypes();
+        bean.setStringProperty("foo");
+        bean.setIntProperty(42);
+
+        JsonObject target = Json.createObject();
+        target.put("key", "existing");
+
+        Assert.assertTrue(JsonSerializer.writeBeanProperties(bean, target));
+        Assert.assertEquals("existing", target.getString("key"));
+        Assert.assertEquals("foo", target.getString("stringProperty"));
+        Assert.assertEquals(42, target.getNumber("intProperty"), PRECISION);
+        Assert.assertFalse(target.hasKey("class"));
+    }
+
+    @Test
+    public void writeBeanProperties_notBean_nothingWritten() {
+        JsonObject target = Json.createObject();
+
+        Assert.assertFalse(JsonSerializer.writeBeanProperties("foo", target));
+        Assert.assertFalse(JsonSerializer.writeBeanProperties(null, target));
+        Assert.assertFalse(JsonSerializer
+                .writeBeanProperties(Arrays.asList("foo", "bar"), target));
+        Assert.assertEquals(0, target.keys().length);
+    }
+
+    @Test
+    public void serializeAndDeserializeSameTypeTwice_sameResult() {
+        ObjectWithSimpleTypes bean = new ObjectWithSimpleTypes();
+        bean.setStringProperty("foo");
+        bean.setDoubleProperty(1.5);
+
+        JsonValue first = JsonSerializer.toJson(bean);
+        JsonValue second = JsonSerializer.toJson(bean);
+        Assert.assertEquals(first.toJson(), second.toJson());
+
+        ObjectWithSimpleTypes copy = JsonSerializer
+                .toObject(ObjectWithSimpleTypes.class, second);
+        Assert.assertEquals("foo", copy.getStringProperty());
+        Assert.assertEquals(1.5, copy.getDoubleProperty(), PRECISION);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void serializeObjectWithFailingGetter_throws() {
+        JsonSerializer.toJson(new ObjectWithFailingGetter());
+    }
+
     private RecursiveObject createRecusiveObject(int recursions, int index) {
         if (index < recursions) {
             RecursiveObject bean = new RecursiveObject();
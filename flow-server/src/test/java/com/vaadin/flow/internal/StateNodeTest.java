@@ -1402,4 +1402,37 @@ public class StateNodeTest {
 
         Assert.assertEquals(0, changes.size());
     }
+
+    @Test
+    public void getChangeTracker_trackersKeptPerFeature() {
+        StateNode node = new StateNode(ElementPropertyMap.class,
+                ElementAttributeMap.class, ElementClassList.class);
+        NodeFeature properties = node.getFeature(ElementPropertyMap.class);
+        NodeFeature attributes = node.getFeature(ElementAttributeMap.class);
+        NodeFeature classList = node.getFeature(ElementClassList.class);
+
+        ArrayList<String> attributeTracker = node.getChangeTracker(attributes,
+                ArrayList::new);
+        ArrayList<String> propertyTracker = node.getChangeTracker(properties,
+                ArrayList::new);
+        ArrayList<String> classListTracker = node.getChangeTracker(classList,
+                ArrayList::new);
+
+        Assert.assertNotSame(attributeTracker, propertyTracker);
+        Assert.assertNotSame(propertyTracker, classListTracker);
+
+        Assert.assertSame(propertyTracker,
+                node.getChangeTracker(properties, () -> {
+                    throw new AssertionError("Should use existing tracker");
+                }));
+        Assert.assertSame(attributeTracker,
+                node.getChangeTracker(attributes, ArrayList::new));
+        Assert.assertSame(classListTracker,
+                node.getChangeTracker(classList, ArrayList::new));
+
+        node.clearChanges();
+
+        Assert.assertNotSame(propertyTracker,
+                node.getChangeTracker(properties, ArrayList::new));
+    }
 }
@@ -215,6 +215,26 @@ public class StateTreeTest {
                 tree.collectDirtyNodes().toArray());
     }
 
+    @Test
+    public void markAsDirty_sameNodeManyTimes_collectedOnce() {
+        StateNode node = StateNodeTest.createEmptyNode("node");
+        StateNodeTest.setParent(node, tree.getRootNode());
+        tree.collectDirtyNodes();
+
+        node.markAsDirty();
+        node.markAsDirty();
+        node.markAsDirty();
+
+        Assert.assertArrayEquals(new Object[] { node },
+                tree.collectDirtyNodes().toArray());
+        Assert.assertFalse(tree.hasDirtyNodes());
+
+        node.markAsDirty();
+        Assert.assertTrue(tree.hasDirtyNodes());
+        Assert.assertArrayEquals(new Object[] { node },
+                tree.collectDirtyNodes().toArray());
+    }
+
     @Test
     public void testDetachInChanges() {
         StateNode node1 = tree.getRootNode();
@@ -265,6 +285,56 @@ public class StateTreeTest {
         Assert.assertEquals("foo", nodeChange.getValue());
     }
 
+    @Test
+    public void prepareForResync_attachedNodesReportedAsNew() {
+        StateNode root = tree.getRootNode();
+        StateNode child = new StateNode(ElementData.class);
+        StateNodeTest.setParent(child, root);
+        child.getFeature(ElementData.class).setTag("foo");
+        tree.collectChanges(change -> {
+        });
+
+        tree.prepareForResync();
+
+        List<NodeChange> changes = new ArrayList<>();
+        tree.collectChanges(changes::add);
+
+        Assert.assertFalse("Root node should not be attached again",
+                changes.stream().anyMatch(change -> change.getNode() == root
+                        && change instanceof NodeAttachChange));
+        Assert.assertTrue("Root node children should be added again",
+                changes.stream()
+                        .anyMatch(change -> change.getNode() == root
+                                && change instanceof ListAddChange));
+        Assert.assertTrue("Child should be attached again",
+                changes.stream().anyMatch(change -> change.getNode() == child
+                        && change instanceof NodeAttachChange));
+        Assert.assertTrue("Child tag should be sent again",
+                changes.stream()
+                        .filter(MapPutChange.class::isInstance)
+                        .map(MapPutChange.class::cast)
+                        .anyMatch(change -> change.getNode() == child
+                                && "tag".equals(change.getKey())));
+    }
+
+    @Test
+    public void prepareForResync_detachedNodeNotReported() {
+        StateNode root = tree.getRootNode();
+        StateNode child = new StateNode(ElementData.class);
+        StateNodeTest.setParent(child, root);
+        tree.collectChanges(change -> {
+        });
+
+        StateNodeTest.setParent(child, null);
+        tree.prepareForResync();
+
+        List<NodeChange> changes = new ArrayList<>();
+        tree.collectChanges(changes::add);
+
+        Assert.assertFalse("Detached node should not be reported",
+                changes.stream().anyMatch(change -> change.getNode() == child));
+    }
+
     private List<NodeChange> collectChangesExceptChildrenAddRemove() {
         List<NodeChange> changes = new ArrayList<>();
         tree.collectChanges(change -> {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.internal.StaticResourceCache.CachedResource;
+
+public class StaticResourceCacheTest {
+
+    private final StaticResourceCache cache = new StaticResourceCache(100);
+
+    @Test
+    public void put_sizeIncludesCompressedVariants() {
+        cache.put("a", new CachedResource(new byte[10], new byte[5],
+                new byte[3], -1));
+
+        Assert.assertEquals(18, cache.getSize());
+        Assert.assertNotNull(cache.get("a"));
+    }
+
+    @Test
+    public void put_tooLargeResource_notCached() {
+        cache.put("a", resource(cache.getMaxResourceSize() + 1));
+
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void put_overMaxSize_leastRecentlyUsedEvicted() {
+        cache.put("a", resource(25));
+        cache.put("b", resource(25));
+        cache.put("c", resource(25));
+        cache.put("d", resource(25));
+        // Make "a" the most recently used
+        cache.get("a");
+
+        cache.put("e", resource(25));
+
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("e"));
+        Assert.assertEquals(100, cache.getSize());
+    }
+
+    @Test
+    public void put_replaceResource_sizeUpdated() {
+        cache.put("a", resource(20));
+        cache.put("a", resource(10));
+
+        Assert.assertEquals(10, cache.getSize());
+    }
+
+    @Test
+    public void eTag_derivedFromContents() {
+        CachedResource first = new CachedResource(new byte[] { 1, 2 }, null,
+                null, -1);
+        CachedResource same = new CachedResource(new byte[] { 1, 2 }, null,
+                null, 123);
+        CachedResource other = new CachedResource(new byte[] { 2, 1 }, null,
+                null, -1);
+
+        Assert.assertTrue(first.getETag().startsWith("W/\""));
+        Assert.assertEquals(first.getETag(), same.getETag());
+        Assert.assertNotEquals(first.getETag(), other.getETag());
+    }
+
+    @Test
+    public void clear_cacheEmpty() {
+        cache.put("a", resource(10));
+        cache.clear();
+
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    private static CachedResource resource(long size) {
+        return new CachedResource(new byte[(int) size], null, null, -1);
+    }
+}
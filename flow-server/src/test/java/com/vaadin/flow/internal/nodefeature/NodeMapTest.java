@@ -16,6 +16,8 @@
 
 package com.vaadin.flow.internal.nodefeature;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -372,4 +374,78 @@ public class NodeMapTest
                     "Should not happen, but forEachChild shouldn't explode either");
         });
     }
+
+    @Test
+    public void putManyValues_allValuesKept() {
+        for (int i = 0; i < 20; i++) {
+            nodeMap.put("key" + i, "value" + i);
+            Assert.assertEquals(i + 1, nodeMap.keySet().size());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(nodeMap.contains("key" + i));
+            Assert.assertEquals("value" + i, nodeMap.get("key" + i));
+        }
+        Assert.assertFalse(nodeMap.contains("key20"));
+    }
+
+    @Test
+    public void removeFromFewValues_otherValuesKept() {
+        nodeMap.put("foo", "1");
+        nodeMap.put("bar", "2");
+        nodeMap.put("baz", "3");
+
+        Assert.assertEquals("2", nodeMap.remove("bar"));
+        Assert.assertNull(nodeMap.remove("bar"));
+
+        Assert.assertEquals(2, nodeMap.keySet().size());
+        Assert.assertTrue(nodeMap.keySet().contains("foo"));
+        Assert.assertTrue(nodeMap.keySet().contains("baz"));
+        Assert.assertEquals("1", nodeMap.get("foo"));
+        Assert.assertEquals("3", nodeMap.get("baz"));
+
+        nodeMap.remove("foo");
+        nodeMap.remove("baz");
+        Assert.assertTrue(nodeMap.keySet().isEmpty());
+    }
+
+    @Test
+    public void fewValues_serializable() {
+        nodeMap.put("foo", "1");
+        nodeMap.put("bar", "2");
+
+        StateNode copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(nodeMap.getNode()));
+        ElementStylePropertyMap copyMap = copy
+                .getFeature(ElementStylePropertyMap.class);
+
+        Assert.assertEquals("1", copyMap.get("foo"));
+        Assert.assertEquals("2", copyMap.get("bar"));
+    }
+
+    @Test
+    public void putNewKeys_keyInstancesShared() {
+        ElementStylePropertyMap otherMap = createFeature();
+        nodeMap.put(new String("foo"), "1");
+        nodeMap.put(new String("bar"), "2");
+        otherMap.put(new String("foo"), "3");
+        otherMap.put(new String("bar"), "4");
+
+        for (String key : nodeMap.keySet()) {
+            String otherKey = otherMap.keySet().stream()
+                    .filter(key::equals).findFirst().get();
+            Assert.assertSame(key, otherKey);
+        }
+    }
+
+    @Test
+    public void putUpToArrayLimit_valuesKeptInOrder() {
+        for (int i = 0; i < 8; i++) {
+            nodeMap.put("key" + i, "value" + i);
+        }
+
+        Assert.assertEquals(Arrays.asList("key0", "key1", "key2", "key3",
+                "key4", "key5", "key6", "key7"),
+                new ArrayList<>(nodeMap.keySet()));
+    }
 }
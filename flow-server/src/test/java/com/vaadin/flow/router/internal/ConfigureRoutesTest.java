@@ -192,6 +192,68 @@ public class ConfigureRoutesTest {
         Assert.assertEquals("Expected 2 targets for route 'Another'", 2, mutable.getRouteTarget("Another").getRoutes().size());
     }
 
+    @Test
+    public void configureFromConfigured_editingDoesNotChangeOriginal() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("", BaseTarget.class);
+        mutable.setTargetRoute(BaseTarget.class, "");
+        mutable.setRoute("param", ParamTarget.class);
+        mutable.setTargetRoute(ParamTarget.class, "param");
+        ConfiguredRoutes original = new ConfiguredRoutes(mutable);
+
+        ConfigureRoutes editing = new ConfigureRoutes(original);
+        editing.removeRoute(ParamTarget.class);
+        editing.setRoute("other", BaseTarget.class);
+
+        Assert.assertFalse(editing.hasRoute("param"));
+        Assert.assertTrue(editing.hasRoute("other"));
+        Assert.assertTrue(original.hasRoute("param"));
+        Assert.assertFalse(original.hasRoute("other"));
+        Assert.assertEquals("param",
+                original.getTargetRoute(ParamTarget.class));
+        Assert.assertTrue(original
+                .getRouteMatch(Arrays.asList("param", "foo")).isPresent());
+    }
+
+    @Test
+    public void configureFromConfigured_unchangedRouteTargetsShared() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("", BaseTarget.class);
+        mutable.setRoute("param", ParamTarget.class);
+        ConfiguredRoutes original = new ConfiguredRoutes(mutable);
+
+        ConfigureRoutes editing = new ConfigureRoutes(original);
+        editing.setRoute("param", BaseTarget.class);
+        ConfiguredRoutes updated = new ConfiguredRoutes(editing);
+
+        Assert.assertSame(original.getRouteTarget(""),
+                updated.getRouteTarget(""));
+        Assert.assertNotSame(original.getRouteTarget("param"),
+                updated.getRouteTarget("param"));
+        Assert.assertEquals(1,
+                original.getRouteTarget("param").getRoutes().size());
+        Assert.assertEquals(2,
+                updated.getRouteTarget("param").getRoutes().size());
+    }
+
+    @Test
+    public void configureFromConfigured_removedRouteNotMatched() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("", BaseTarget.class);
+        mutable.setRoute("foo/bar", BaseTarget.class);
+        ConfiguredRoutes original = new ConfiguredRoutes(mutable);
+
+        ConfigureRoutes editing = new ConfigureRoutes(original);
+        editing.removeRoute("foo/bar");
+
+        Assert.assertFalse(editing
+                .getRouteMatch(Arrays.asList("foo", "bar")).isPresent());
+        Assert.assertFalse(new ConfiguredRoutes(editing)
+                .getRouteMatch(Arrays.asList("foo", "bar")).isPresent());
+        Assert.assertEquals("foo/bar", original
+                .getRouteMatch(Arrays.asList("foo", "bar")).get().getPath());
+    }
+
     @Tag("div")
     public static class BaseTarget extends Component {
     }
@@ -2,13 +2,19 @@ package com.vaadin.flow.router.internal;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.OptionalParameter;
 import com.vaadin.flow.router.RouterLayout;
+import com.vaadin.flow.router.WildcardParameter;
 import com.vaadin.flow.server.startup.RouteTarget;
 
 public class ConfiguredRoutesTest {
@@ -70,10 +76,125 @@ public class ConfiguredRoutesTest {
                 immutable.getParentLayouts("", BaseTarget.class));
     }
 
+    @Test
+    public void getRouteMatch_longestMatchingPathUsed() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("", BaseTarget.class);
+        mutable.setRoute("foo", ParameterTarget.class);
+        mutable.setRoute("foo/bar", OptionalParameterTarget.class);
+        mutable.getRouteTarget("foo/bar").setParentLayouts(
+                OptionalParameterTarget.class,
+                Collections.singletonList(ParentTarget.class));
+        mutable.setRoute("wild", WildcardParameterTarget.class);
+        ConfiguredRoutes immutable = new ConfiguredRoutes(mutable);
+
+        assertMatch(immutable, "", BaseTarget.class, 0, "");
+        assertMatch(immutable, "foo", null, 0, "foo");
+        assertMatch(immutable, "foo/bar", OptionalParameterTarget.class, 0,
+                "foo", "bar");
+        assertMatch(immutable, "foo/bar", OptionalParameterTarget.class, 1,
+                "foo", "bar", "baz");
+        assertMatch(immutable, "foo", ParameterTarget.class, 1, "foo", "baz");
+        assertMatch(immutable, "wild", WildcardParameterTarget.class, 3,
+                "wild", "a", "b", "c");
+        assertMatch(immutable, "wild", WildcardParameterTarget.class, 0,
+                "wild");
+        Assert.assertFalse("No route should accept four segments after foo",
+                immutable.getRouteMatch(
+                        Arrays.asList("foo", "bar", "baz", "qux"))
+                        .isPresent());
+
+        Assert.assertEquals(Collections.singletonList(ParentTarget.class),
+                immutable.getRouteMatch(Arrays.asList("foo", "bar", "baz"))
+                        .get().getParentLayouts());
+        Assert.assertEquals(
+                "Mutable configuration should match the same routes",
+                OptionalParameterTarget.class,
+                mutable.getRouteMatch(Arrays.asList("foo", "bar", "baz"))
+                        .get().getNavigationTarget());
+    }
+
+    @Test
+    public void getRouteMatch_noRootRoute_noMatchForUnknownPath() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("foo", BaseTarget.class);
+        ConfiguredRoutes immutable = new ConfiguredRoutes(mutable);
+
+        Assert.assertFalse(immutable
+                .getRouteMatch(Collections.singletonList("bar")).isPresent());
+        Assert.assertFalse(immutable
+                .getRouteMatch(Collections.singletonList("")).isPresent());
+        Assert.assertFalse(new ConfiguredRoutes()
+                .getRouteMatch(Collections.singletonList("")).isPresent());
+    }
+
+    private static void assertMatch(ConfiguredRoutes configuration,
+            String expectedPath, Class<? extends Component> expectedTarget,
+            int expectedParameterCount, String... segments) {
+        Optional<RouteMatch> match = configuration
+                .getRouteMatch(Arrays.asList(segments));
+        if (expectedTarget == null) {
+            Assert.assertFalse(match.isPresent());
+            return;
+        }
+        Assert.assertTrue(match.isPresent());
+        Assert.assertEquals(expectedPath, match.get().getPath());
+        Assert.assertEquals(expectedTarget,
+                match.get().getNavigationTarget());
+        Assert.assertEquals(expectedParameterCount,
+                match.get().getParameterCount());
+    }
+
+    @Test
+    public void serialize_classKeyedMapsStillFound() {
+        ConfigureRoutes mutable = new ConfigureRoutes();
+        mutable.setRoute("", BaseTarget.class);
+        mutable.setTargetRoute(BaseTarget.class, "");
+        mutable.setErrorRoute(IllegalStateException.class,
+                ParameterTarget.class);
+        ConfiguredRoutes immutable = new ConfiguredRoutes(mutable);
+
+        ConfiguredRoutes deserialized = SerializationUtils
+                .deserialize(SerializationUtils.serialize(immutable));
+
+        Assert.assertEquals("", deserialized.getTargetRoute(BaseTarget.class));
+        Assert.assertEquals(ParameterTarget.class, deserialized
+                .getExceptionHandlerByClass(IllegalStateException.class));
+        Assert.assertEquals(BaseTarget.class, deserialized
+                .getRouteMatch(Collections.singletonList("")).get()
+                .getNavigationTarget());
+    }
+
     @Tag("div")
     public static class BaseTarget extends Component {
     }
 
+    @Tag("div")
+    public static class ParameterTarget extends Component
+            implements HasUrlParameter<String> {
+        @Override
+        public void setParameter(BeforeEvent event, String parameter) {
+        }
+    }
+
+    @Tag("div")
+    public static class OptionalParameterTarget extends Component
+            implements HasUrlParameter<String> {
+        @Override
+        public void setParameter(BeforeEvent event,
+                @OptionalParameter String parameter) {
+        }
+    }
+
+    @Tag("div")
+    public static class WildcardParameterTarget extends Component
+            implements HasUrlParameter<String> {
+        @Override
+        public void setParameter(BeforeEvent event,
+                @WildcardParameter String parameter) {
+        }
+    }
+
     @Tag("div")
     public static class ParentTarget extends Component implements RouterLayout {
     }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PersistentHashMapTest {
+
+    /**
+     * A key with an identity based hash code that changes when the key is
+     * deserialized, like the hash code of a {@link Class} in another JVM.
+     */
+    private static class IdentityHashKey implements Serializable {
+        private static final AtomicInteger NEXT_HASH = new AtomicInteger();
+
+        private final String name;
+        private transient int hash = NEXT_HASH.incrementAndGet();
+
+        private IdentityHashKey(String name) {
+            this.name = name;
+        }
+
+        private Object readResolve() {
+            IdentityHashKey key = new IdentityHashKey(name);
+            key.hash = NEXT_HASH.addAndGet(1000);
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityHashKey
+                    && ((IdentityHashKey) obj).name.equals(name);
+        }
+    }
+
+    @Test
+    public void withAndWithout_previousVersionUnchanged() {
+        PersistentHashMap<String, Integer> first = PersistentHashMap
+                .<String, Integer> empty().with("a", 1).with("b", 2);
+        PersistentHashMap<String, Integer> second = first.with("a", 3)
+                .without("b");
+
+        Assert.assertEquals(2, first.size());
+        Assert.assertEquals(Integer.valueOf(1), first.get("a"));
+        Assert.assertEquals(Integer.valueOf(2), first.get("b"));
+        Assert.assertEquals(1, second.size());
+        Assert.assertEquals(Integer.valueOf(3), second.get("a"));
+        Assert.assertFalse(second.containsKey("b"));
+    }
+
+    @Test
+    public void serialize_keyHashCodesChange_entriesFound() {
+        PersistentHashMap<IdentityHashKey, String> map = PersistentHashMap
+                .empty();
+        for (int i = 0; i < 100; i++) {
+            map = map.with(new IdentityHashKey("key" + i), "value" + i);
+        }
+
+        PersistentHashMap<IdentityHashKey, String> deserialized = SerializationUtils
+                .deserialize(SerializationUtils.serialize(map));
+
+        Assert.assertEquals(100, deserialized.size());
+        for (IdentityHashKey key : deserialized.keySet()) {
+            Assert.assertEquals("value" + key.name.substring(3),
+                    deserialized.get(key));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -17,12 +18,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.io.IOUtils;
 import org.hamcrest.CoreMatchers;
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -1209,6 +1212,63 @@ public class BootstrapHandlerTest {
         Assert.assertEquals(bootstrapContext.getUriResolver(), resolver.get());
     }
 
+    @Test
+    public void productionMode_cachedPageDiffersOnlyByBootstrapScript()
+            throws IOException {
+        mocks.setProductionMode(true);
+        Mockito.when(session.getNextUIid()).thenReturn(1, 2);
+        BootstrapHandler bootstrapHandler = new BootstrapHandler();
+
+        Document firstPage = Jsoup
+                .parse(handleBootstrapRequest(bootstrapHandler));
+        Document secondPage = Jsoup
+                .parse(handleBootstrapRequest(bootstrapHandler));
+
+        Element firstScript = getBootstrapScript(firstPage);
+        Element secondScript = getBootstrapScript(secondPage);
+        assertTrue(firstScript.data().contains("\"v-uiId\":1"));
+        assertTrue(secondScript.data().contains("\"v-uiId\":2"));
+
+        firstScript.remove();
+        secondScript.remove();
+        assertEquals(firstPage.outerHtml(), secondPage.outerHtml());
+    }
+
+    @Test
+    public void productionModeWithBootstrapListener_pageNotCached()
+            throws IOException {
+        mocks.setProductionMode(true);
+        AtomicInteger count = new AtomicInteger();
+        service.addBootstrapListener(evt -> evt.getDocument().head()
+                .appendElement("meta").attr("name", "count")
+                .attr("content", String.valueOf(count.incrementAndGet())));
+        BootstrapHandler bootstrapHandler = new BootstrapHandler();
+
+        handleBootstrapRequest(bootstrapHandler);
+        Document page = Jsoup.parse(handleBootstrapRequest(bootstrapHandler));
+
+        assertEquals("2",
+                page.head().getElementsByAttributeValue("name", "count")
+                        .attr("content"));
+    }
+
+    private String handleBootstrapRequest(BootstrapHandler bootstrapHandler)
+            throws IOException {
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+        bootstrapHandler.synchronizedHandleRequest(session,
+                createVaadinRequest(), response);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private Element getBootstrapScript(Document page) {
+        return page.head().getElementsByTag("script").stream()
+                .filter(script -> script.data()
+                        .contains(ApplicationConstants.UI_ID_PARAMETER))
+                .findFirst().orElseThrow(AssertionError::new);
+    }
+
     @Test
     public void useDependencyFilters_removeDependenciesAndAddNewOnes()
             throws ServiceException {
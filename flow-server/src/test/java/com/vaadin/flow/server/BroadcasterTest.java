@@ -0,0 +1,156 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.tests.util.MockUI;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+public class BroadcasterTest {
+
+    public static class Price {
+        private final String symbol;
+        private final double value;
+
+        public Price(String symbol, double value) {
+            this.symbol = symbol;
+            this.value = value;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+
+    private MockVaadinServletService service;
+
+    @Before
+    public void setUp() {
+        service = new MockVaadinServletService();
+        service.init();
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void broadcast_valueEncodedOnceAndSetToAllElements() {
+        VaadinSession session = new MockVaadinSession(service);
+        UI ui1 = createUI(session);
+        UI ui2 = createUI(session);
+        UI ui3 = createUI(new MockVaadinSession(service));
+
+        Broadcaster broadcaster = new Broadcaster();
+        broadcaster.subscribe(ui1.getElement(), "price");
+        broadcaster.subscribe(ui2.getElement(), "price");
+        broadcaster.subscribe(ui3.getElement(), "price");
+        Assert.assertEquals(3, broadcaster.getSubscriberCount());
+
+        broadcaster.broadcast(new Price("VDN", 42.5));
+
+        JsonObject price = (JsonObject) ui1.getElement()
+                .getPropertyRaw("price");
+        Assert.assertEquals("VDN", price.getString("symbol"));
+        Assert.assertEquals(42.5, price.getNumber("value"), 0);
+        Assert.assertSame(price, ui2.getElement().getPropertyRaw("price"));
+        Assert.assertSame(price, ui3.getElement().getPropertyRaw("price"));
+    }
+
+    @Test
+    public void broadcast_sessionsDispatchedInBatches() {
+        List<Runnable> executorTasks = new ArrayList<>();
+        Broadcaster broadcaster = new Broadcaster(executorTasks::add, 2);
+        List<JsonValue> received = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            VaadinSession session = new MockVaadinSession(service);
+            broadcaster.subscribe(createUI(session), received::add);
+            broadcaster.subscribe(createUI(session), received::add);
+        }
+
+        broadcaster.broadcast("foo");
+
+        Assert.assertEquals(2, executorTasks.size());
+        Assert.assertTrue(received.isEmpty());
+
+        executorTasks.forEach(Runnable::run);
+
+        Assert.assertEquals(6, received.size());
+        received.forEach(value -> Assert.assertEquals("foo",
+                value.asString()));
+    }
+
+    @Test
+    public void subscribe_registrationRemoved_noLongerReceived() {
+        UI ui = createUI(new MockVaadinSession(service));
+        Broadcaster broadcaster = new Broadcaster();
+        List<JsonValue> received = new ArrayList<>();
+        Registration registration = broadcaster.subscribe(ui, received::add);
+
+        registration.remove();
+        broadcaster.broadcast(1);
+
+        Assert.assertEquals(0, broadcaster.getSubscriberCount());
+        Assert.assertTrue(received.isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void subscribe_uiWithoutSession_throws() {
+        new Broadcaster().subscribe(new UI(), value -> {
+        });
+    }
+
+    @Test
+    public void serializable_subscriptionsNotPreserved() {
+        Broadcaster broadcaster = new Broadcaster();
+        broadcaster.subscribe(createUI(new MockVaadinSession(service)),
+                value -> {
+                });
+
+        Broadcaster copy = SerializationUtils
+                .deserialize(SerializationUtils.serialize(broadcaster));
+
+        Assert.assertEquals(0, copy.getSubscriberCount());
+        copy.broadcast("foo");
+    }
+
+    private static UI createUI(VaadinSession session) {
+        session.lock();
+        try {
+            return new MockUI(session);
+        } finally {
+            session.unlock();
+        }
+    }
+}
@@ -93,6 +93,12 @@ public class MockServletServiceSessionSetup {
             super.modifyBootstrapPage(response);
         }
 
+        @Override
+        boolean hasBootstrapListeners() {
+            return !bootstrapListeners.isEmpty()
+                    || super.hasBootstrapListeners();
+        }
+
     }
 
     public class TestVaadinServlet extends VaadinServlet {
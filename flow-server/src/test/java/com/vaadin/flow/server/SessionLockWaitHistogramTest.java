@@ -0,0 +1,62 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SessionLockWaitHistogramTest {
+
+    private SessionLockWaitHistogram histogram = new SessionLockWaitHistogram();
+
+    @Test
+    public void record_countedInMatchingBucket() {
+        histogram.record(0);
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(11));
+        histogram.record(TimeUnit.MINUTES.toNanos(1));
+
+        long[] counts = histogram.getCounts();
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertEquals(1, counts[1]);
+        Assert.assertEquals(1, counts[2]);
+        Assert.assertEquals(1, counts[counts.length - 1]);
+        Assert.assertEquals(4, histogram.getCount());
+        Assert.assertEquals(60, histogram.getTotalWaitTime(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void bucketUpperBounds_sameLengthAsCounts() {
+        long[] bounds = histogram.getBucketUpperBounds(TimeUnit.MICROSECONDS);
+
+        Assert.assertEquals(histogram.getCounts().length, bounds.length);
+        Assert.assertEquals(0, bounds[0]);
+        Assert.assertEquals(10, bounds[1]);
+        Assert.assertEquals(Long.MAX_VALUE, bounds[bounds.length - 1]);
+    }
+
+    @Test
+    public void reset_countsCleared() {
+        histogram.record(5);
+        histogram.reset();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0,
+                histogram.getTotalWaitTime(TimeUnit.NANOSECONDS));
+    }
+}
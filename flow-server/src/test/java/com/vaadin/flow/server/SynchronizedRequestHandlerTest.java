@@ -0,0 +1,72 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class SynchronizedRequestHandlerTest {
+
+    private static class TestHandler extends SynchronizedRequestHandler {
+        private final boolean lockRequired;
+        private final AtomicBoolean hadLock = new AtomicBoolean();
+
+        private TestHandler(boolean lockRequired) {
+            this.lockRequired = lockRequired;
+        }
+
+        @Override
+        public boolean synchronizedHandleRequest(VaadinSession session,
+                VaadinRequest request, VaadinResponse response) {
+            hadLock.set(session.hasLock());
+            return true;
+        }
+
+        @Override
+        protected boolean isSessionLockRequired(VaadinRequest request) {
+            return lockRequired;
+        }
+    }
+
+    private VaadinSession session = new MockVaadinSession(
+            Mockito.mock(VaadinService.class));
+
+    @Test
+    public void lockRequired_handledWithSessionLock() throws Exception {
+        TestHandler handler = new TestHandler(true);
+
+        Assert.assertTrue(handler.handleRequest(session,
+                Mockito.mock(VaadinRequest.class),
+                Mockito.mock(VaadinResponse.class)));
+
+        Assert.assertTrue(handler.hadLock.get());
+        Assert.assertFalse(session.hasLock());
+    }
+
+    @Test
+    public void lockNotRequired_handledWithoutSessionLock() throws Exception {
+        TestHandler handler = new TestHandler(false);
+
+        Assert.assertTrue(handler.handleRequest(session,
+                Mockito.mock(VaadinRequest.class),
+                Mockito.mock(VaadinResponse.class)));
+
+        Assert.assertFalse(handler.hadLock.get());
+    }
+}
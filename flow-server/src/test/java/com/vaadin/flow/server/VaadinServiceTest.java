@@ -23,9 +23,14 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,6 +47,7 @@ import com.vaadin.flow.router.Router;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
@@ -239,6 +245,26 @@ public class VaadinServiceTest {
         Assert.assertTrue(listener2Run.get());
     }
 
+    @Test
+    public void requestMetricsListener_registeredInServiceInit_fired()
+            throws ServiceException {
+        List<RequestMetricsEvent> events = new ArrayList<>();
+        MockVaadinServletService service = new MockVaadinServletService();
+        Assert.assertFalse(service.hasRequestMetricsListeners());
+
+        service.init(new MockInstantiator(
+                evt -> evt.addRequestMetricsListener(events::add)));
+        Assert.assertTrue(service.hasRequestMetricsListeners());
+
+        RequestMetrics metrics = new RequestMetrics();
+        service.fireRequestMetrics(null, metrics, true);
+
+        Assert.assertEquals(1, events.size());
+        Assert.assertSame(service, events.get(0).getSource());
+        Assert.assertSame(metrics, events.get(0).getMetrics());
+        Assert.assertTrue(events.get(0).isPush());
+    }
+
     @Test
     public void testServiceInitListener_accessApplicationRouteRegistry_registryAvailable() {
 
@@ -326,6 +352,129 @@ public class VaadinServiceTest {
                 filters.get(2).getClass());
     }
 
+    @Test
+    public void lockSession_sameLockForSession_waitTimeRecorded() {
+        VaadinService service = createService();
+        WrappedSession session = createWrappedSession("foo");
+
+        service.lockSession(session);
+        Lock lock = service.getSessionLock(session);
+        Assert.assertNotNull(lock);
+        service.unlockSession(session);
+
+        service.lockSession(session);
+        Assert.assertSame(lock, service.getSessionLock(session));
+        service.unlockSession(session);
+
+        Assert.assertNotSame(lock,
+                service.getSessionLock(lockAndUnlock(service, "bar")));
+
+        SessionLockWaitHistogram histogram = service
+                .getSessionLockWaitHistogram();
+        Assert.assertEquals(3, histogram.getCount());
+        Assert.assertEquals(3, histogram.getCounts()[0]);
+    }
+
+    @Test
+    public void accessSession_accessExecutor_queuedTasksPurgedTogether() {
+        List<Runnable> executorTasks = new ArrayList<>();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected AccessExecutor createAccessExecutor() {
+                return executorTasks::add;
+            }
+        };
+        service.init();
+        VaadinSession session = new MockVaadinSession(service);
+        List<String> log = new ArrayList<>();
+
+        session.access(() -> log.add("first"));
+        session.access(() -> log.add("second"));
+
+        Assert.assertEquals(1, executorTasks.size());
+        Assert.assertTrue(log.isEmpty());
+        Assert.assertEquals(1,
+                service.getAccessQueueMetrics().getPendingPurgeCount());
+
+        executorTasks.get(0).run();
+
+        Assert.assertEquals(Arrays.asList("first", "second"), log);
+        AccessQueueMetrics metrics = service.getAccessQueueMetrics();
+        Assert.assertEquals(0, metrics.getPendingPurgeCount());
+        Assert.assertEquals(1, metrics.getCompletedPurgeCount());
+        Assert.assertEquals(2, metrics.getPurgedTaskCount());
+        Assert.assertEquals(2, metrics.getMaxQueueDepth());
+
+        session.access(() -> log.add("third"));
+        Assert.assertEquals(2, executorTasks.size());
+    }
+
+    @Test
+    public void accessSession_accessExecutor_sessionLocked_purgedOnUnlock() {
+        List<Runnable> executorTasks = new ArrayList<>();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected AccessExecutor createAccessExecutor() {
+                return executorTasks::add;
+            }
+        };
+        service.init();
+        VaadinSession session = new MockVaadinSession(service);
+        List<String> log = new ArrayList<>();
+
+        session.lock();
+        try {
+            session.access(() -> log.add("first"));
+            Assert.assertTrue(log.isEmpty());
+        } finally {
+            session.unlock();
+        }
+
+        Assert.assertEquals(Collections.singletonList("first"), log);
+        Assert.assertTrue(executorTasks.isEmpty());
+    }
+
+    @Test
+    public void accessSession_executorRejects_purgedOnCurrentThread() {
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected AccessExecutor createAccessExecutor() {
+                return task -> {
+                    throw new RejectedExecutionException();
+                };
+            }
+        };
+        service.init();
+        VaadinSession session = new MockVaadinSession(service);
+        List<String> log = new ArrayList<>();
+
+        session.access(() -> log.add("first"));
+
+        Assert.assertEquals(Collections.singletonList("first"), log);
+    }
+
+    private static WrappedSession lockAndUnlock(VaadinService service,
+            String sessionId) {
+        WrappedSession session = createWrappedSession(sessionId);
+        service.lockSession(session);
+        service.unlockSession(session);
+        return session;
+    }
+
+    private static WrappedSession createWrappedSession(String id) {
+        Map<String, Object> attributes = new HashMap<>();
+        WrappedSession session = Mockito.mock(WrappedSession.class);
+        Mockito.when(session.getId()).thenReturn(id);
+        Mockito.when(session.getAttribute(Mockito.anyString()))
+                .then(invocation -> attributes
+                        .get(invocation.getArgumentAt(0, String.class)));
+        Mockito.doAnswer(invocation -> attributes.put(
+                invocation.getArgumentAt(0, String.class),
+                invocation.getArgumentAt(1, Object.class))).when(session)
+                .setAttribute(Mockito.anyString(), Mockito.any());
+        return session;
+    }
+
     private static VaadinService createService() {
         ServletConfig servletConfig = new MockServletConfig();
         VaadinServlet servlet = new VaadinServlet();
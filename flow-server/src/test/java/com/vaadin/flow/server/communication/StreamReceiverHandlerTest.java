@@ -1,12 +1,16 @@
 package com.vaadin.flow.server.communication;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -15,8 +19,10 @@ import org.mockito.MockitoAnnotations;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.MockServletConfig;
 import com.vaadin.flow.server.StreamReceiver;
 import com.vaadin.flow.server.StreamResourceRegistry;
@@ -71,6 +77,8 @@ public class StreamReceiverHandlerTest {
     private String contentLength;
     private ServletInputStream inputStream;
     private String contentType;
+    private HttpServletRequest servletRequest;
+    private ReadListener readListener;
 
     @Before
     public void setup() throws Exception {
@@ -105,8 +113,7 @@ public class StreamReceiverHandlerTest {
     }
 
     private void mockRequest() throws IOException {
-        HttpServletRequest servletRequest = Mockito
-                .mock(HttpServletRequest.class);
+        servletRequest = Mockito.mock(HttpServletRequest.class);
         when(servletRequest.getContentLength())
                 .thenReturn(Integer.parseInt(contentLength));
 
@@ -168,8 +175,8 @@ public class StreamReceiverHandlerTest {
             }
 
             @Override
-            public void setReadListener(ReadListener readListener) {
-
+            public void setReadListener(ReadListener listener) {
+                readListener = listener;
             }
 
             int counter = 0;
@@ -245,4 +252,55 @@ public class StreamReceiverHandlerTest {
 
         verifyZeroInteractions(responseOutput);
     }
+
+    @Test
+    public void asyncStreamTransfer_uploadReadWhenDataAvailable()
+            throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(
+                Constants.SERVLET_PARAMETER_ASYNC_STREAM_TRANSFER, "true");
+        VaadinServlet asyncServlet = new VaadinServlet();
+        asyncServlet.init(new MockServletConfig(properties));
+        mockService = asyncServlet.getService();
+        mockRequest();
+
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        when(servletRequest.isAsyncSupported()).thenReturn(true);
+        when(servletRequest.startAsync()).thenReturn(asyncContext);
+        when(asyncContext.getRequest())
+                .thenReturn((VaadinServletRequest) request);
+        OutputStream variableOutput = mock(OutputStream.class);
+        when(streamVariable.getOutputStream()).thenReturn(variableOutput);
+        AtomicReference<UI> finishedUI = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            finishedUI.set(UI.getCurrent());
+            return null;
+        }).when(streamVariable).streamingFinished(Mockito.any());
+
+        handler.handleRequest(session, request, response, streamReceiver,
+                String.valueOf(uiId), expectedSecurityKey);
+        verify(asyncContext).setTimeout(
+                Constants.DEFAULT_ASYNC_STREAM_TRANSFER_TIMEOUT);
+        // Container callbacks run on threads without current instances
+        CurrentInstance.clearAll();
+
+        // Nothing is read before the container signals available data
+        Assert.assertNotNull(readListener);
+        verify(streamVariable).streamingStarted(Mockito.any());
+        verifyZeroInteractions(variableOutput, responseOutput);
+
+        readListener.onDataAvailable();
+        verify(variableOutput).write(Mockito.any(byte[].class),
+                Mockito.eq(0), Mockito.eq(6));
+        verify(asyncContext, Mockito.never()).complete();
+
+        readListener.onAllDataRead();
+        verify(variableOutput).close();
+        verify(streamVariable).streamingFinished(Mockito.any());
+        verify(responseOutput).close();
+        verify(asyncContext).complete();
+
+        Assert.assertSame(ui, finishedUI.get());
+        Assert.assertNull(UI.getCurrent());
+    }
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinServletRequest;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+
+public class StreamResourceHandlerTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private StreamResourceHandler handler = new StreamResourceHandler();
+    private VaadinSession session;
+    private VaadinServletRequest request;
+    private VaadinResponse response;
+    private ByteArrayOutputStream output;
+
+    @Before
+    public void setUp() throws IOException {
+        session = Mockito.mock(VaadinSession.class);
+        request = Mockito.mock(VaadinServletRequest.class);
+        Mockito.when(request.getServletContext())
+                .thenReturn(Mockito.mock(ServletContext.class));
+        Mockito.when(request.getDateHeader(Mockito.anyString()))
+                .thenReturn(-1L);
+        response = Mockito.mock(VaadinResponse.class);
+        output = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(output);
+    }
+
+    @Test
+    public void matchingIfNoneMatch_notModified() throws IOException {
+        StreamResource resource = createStreamResource().setETag("foo");
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"bar\", W/\"foo\"");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).setHeader("ETag", "\"foo\"");
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void nonMatchingIfNoneMatch_contentSent() throws IOException {
+        StreamResource resource = createStreamResource().setETag("foo",
+                true);
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"bar\"");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).setHeader("ETag", "W/\"foo\"");
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+        Assert.assertEquals(CONTENT, getOutput());
+    }
+
+    @Test
+    public void ifModifiedSince_notModifiedOnlyIfNotOlder() throws IOException {
+        StreamResource resource = createStreamResource()
+                .setLastModified(10500);
+        Mockito.when(request.getDateHeader("If-Modified-Since"))
+                .thenReturn(10000L);
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).setDateHeader("Last-Modified", 10000);
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+
+        Mockito.when(request.getDateHeader("If-Modified-Since"))
+                .thenReturn(9000L);
+        handler.handleRequest(session, request, response, resource);
+
+        Assert.assertEquals(CONTENT, getOutput());
+    }
+
+    @Test
+    public void fileResource_wholeFileSentWithValidators() throws IOException {
+        StreamResource resource = new StreamResource("file", createFile());
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).setHeader("Accept-Ranges", "bytes");
+        Mockito.verify(response).setHeader("Content-Length", "10");
+        Mockito.verify(response).setHeader("ETag", resource.getETag());
+        Assert.assertNotNull(resource.getETag());
+        Assert.assertTrue(resource.getLastModified() > 0);
+        Assert.assertEquals(CONTENT, getOutput());
+    }
+
+    @Test
+    public void fileResource_missingFile_notFound() throws IOException {
+        File file = createFile();
+        StreamResource resource = new StreamResource("file", file);
+        Assert.assertTrue(file.delete());
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).sendError(
+                Mockito.eq(HttpServletResponse.SC_NOT_FOUND),
+                Mockito.anyString());
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void singleRange_partialContent() throws IOException {
+        StreamResource resource = new StreamResource("file", createFile());
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-4");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        Mockito.verify(response).setHeader("Content-Range", "bytes 2-4/10");
+        Mockito.verify(response).setHeader("Content-Length", "3");
+        Assert.assertEquals("234", getOutput());
+    }
+
+    @Test
+    public void suffixAndOpenEndedRanges_multipartContent()
+            throws IOException {
+        StreamResource resource = new StreamResource("file", createFile())
+                .setContentType("text/plain");
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=-2, 5-");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        Mockito.verify(response).setContentType(
+                Mockito.startsWith("multipart/byteranges; boundary="));
+        String body = getOutput();
+        Assert.assertTrue(body.contains("Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 8-9/10\r\n\r\n89\r\n"));
+        Assert.assertTrue(body.contains("Content-Type: text/plain\r\n"
+                + "Content-Range: bytes 5-9/10\r\n\r\n56789\r\n"));
+        Assert.assertTrue(body.endsWith("--\r\n"));
+    }
+
+    @Test
+    public void unsatisfiableRange_rangeNotSatisfiable() throws IOException {
+        StreamResource resource = new StreamResource("file", createFile());
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=10-20");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response).setStatus(
+                HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        Mockito.verify(response).setHeader("Content-Range", "bytes */10");
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void nonMatchingIfRange_wholeFileSent() throws IOException {
+        StreamResource resource = new StreamResource("file", createFile());
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-4");
+        Mockito.when(request.getHeader("If-Range")).thenReturn("\"old\"");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+        Assert.assertEquals(CONTENT, getOutput());
+    }
+
+    @Test
+    public void matchingIfRange_partialContent() throws IOException {
+        StreamResource resource = new StreamResource("file", createFile());
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=7-");
+        Mockito.when(request.getHeader("If-Range"))
+                .thenReturn(resource.getETag());
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        Assert.assertEquals("789", getOutput());
+    }
+
+    @Test
+    public void rangeForNonRangeWriter_ignored() throws IOException {
+        StreamResource resource = createStreamResource();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-4");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+        Assert.assertEquals(CONTENT, getOutput());
+    }
+
+    @Test
+    public void asyncStreamTransfer_writtenWhenOutputReady()
+            throws IOException {
+        AsyncOutput asyncOutput = enableAsyncStreamTransfer();
+        StreamResource resource = new StreamResource("file", createFile());
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-4");
+
+        handler.handleRequest(session, request, response, resource);
+
+        Mockito.verify(response)
+                .setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        Assert.assertNotNull(asyncOutput.listener);
+        Assert.assertEquals(0, asyncOutput.data.size());
+
+        asyncOutput.listener.onWritePossible();
+        Assert.assertEquals("234", new String(asyncOutput.data.toByteArray(),
+                StandardCharsets.UTF_8));
+        Mockito.verify(asyncOutput.context).complete();
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void asyncStreamTransfer_waitsWhileOutputNotReady()
+            throws IOException {
+        AsyncOutput asyncOutput = enableAsyncStreamTransfer();
+        asyncOutput.readyWrites = 1;
+
+        handler.handleRequest(session, request, response,
+                createStreamResource());
+        asyncOutput.listener.onWritePossible();
+
+        Assert.assertEquals(CONTENT, new String(
+                asyncOutput.data.toByteArray(), StandardCharsets.UTF_8));
+        Mockito.verify(asyncOutput.context, Mockito.never()).complete();
+
+        asyncOutput.readyWrites = 1;
+        asyncOutput.listener.onWritePossible();
+        Mockito.verify(asyncOutput.context).complete();
+    }
+
+    private static class AsyncOutput extends ServletOutputStream {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final AsyncContext context = Mockito.mock(AsyncContext.class);
+        private WriteListener listener;
+        private int readyWrites = Integer.MAX_VALUE;
+
+        @Override
+        public boolean isReady() {
+            return readyWrites > 0;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            data.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            data.write(b, off, len);
+            readyWrites--;
+        }
+    }
+
+    private AsyncOutput enableAsyncStreamTransfer() throws IOException {
+        VaadinServletService service = Mockito
+                .mock(VaadinServletService.class);
+        DeploymentConfiguration configuration = Mockito
+                .mock(DeploymentConfiguration.class);
+        Mockito.when(configuration.isAsyncStreamTransfer()).thenReturn(true);
+        Mockito.when(service.getDeploymentConfiguration())
+                .thenReturn(configuration);
+        Mockito.when(request.getService()).thenReturn(service);
+        Mockito.when(request.isAsyncSupported()).thenReturn(true);
+
+        AsyncOutput asyncOutput = new AsyncOutput();
+        Mockito.when(request.startAsync()).thenReturn(asyncOutput.context);
+        HttpServletResponse servletResponse = Mockito
+                .mock(HttpServletResponse.class);
+        Mockito.when(asyncOutput.context.getResponse())
+                .thenReturn(servletResponse);
+        Mockito.when(servletResponse.getOutputStream())
+                .thenReturn(asyncOutput);
+        return asyncOutput;
+    }
+
+    private StreamResource createStreamResource() {
+        return new StreamResource("foo", () -> new ByteArrayInputStream(
+                CONTENT.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private File createFile() throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private String getOutput() {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -16,11 +16,13 @@
 package com.vaadin.flow.server.communication;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,9 +47,11 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
+import com.vaadin.flow.server.RequestMetrics;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -220,6 +224,72 @@ public class UidlWriterTest {
         assertFalse(response.hasKey(LoadMode.LAZY.name()));
     }
 
+    @Test
+    public void writeUidl_writesChangesDependenciesAndExecutions() throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        ui.add(new ActualComponent());
+        ui.getPage().executeJavaScript("console.log($0)", "foo");
+
+        StringWriter writer = new StringWriter();
+        new UidlWriter().writeUidl(ui, false, writer);
+        JsonObject response = Json.parse(writer.toString());
+
+        assertEquals(17, getDependenciesMap(response).size());
+        assertTrue(response.getArray("changes").length() > 0);
+        assertTrue(response.hasKey(JsonConstants.UIDL_KEY_EXECUTE));
+        assertTrue(response.hasKey(ApplicationConstants.SERVER_SYNC_ID));
+
+        // Nothing has changed, so no changes should be written
+        writer = new StringWriter();
+        new UidlWriter().writeUidl(ui, false, writer);
+        response = Json.parse(writer.toString());
+        assertFalse(response.hasKey("changes"));
+        assertFalse(response.hasKey(JsonConstants.UIDL_KEY_EXECUTE));
+    }
+
+    @Test
+    public void createUidl_resync_allNodesSentAgain() throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        ui.add(new ActualComponent());
+        UidlWriter uidlWriter = new UidlWriter();
+        JsonObject initial = uidlWriter.createUidl(ui, false);
+        assertFalse(uidlWriter.createUidl(ui, false).hasKey("changes"));
+
+        JsonObject response = uidlWriter.createUidl(ui, false, true);
+
+        assertTrue(response.getBoolean(ApplicationConstants.RESYNCHRONIZE_ID));
+        assertEquals(countAttachChanges(initial),
+                countAttachChanges(response));
+    }
+
+    @Test
+    public void createUidl_requestMetrics_changesCounted() throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        ui.add(new ActualComponent());
+        RequestMetrics metrics = new RequestMetrics();
+        ui.getInternals().setRequestMetrics(metrics);
+
+        JsonObject response = new UidlWriter().createUidl(ui, false);
+
+        JsonArray changes = response.getArray("changes");
+        assertEquals(changes.length(), metrics.getChangeCount());
+        assertEquals(JsonUtils.<JsonObject> stream(changes)
+                .mapToInt(change -> (int) change
+                        .getNumber(JsonConstants.CHANGE_NODE))
+                .distinct().count(), metrics.getDirtyNodeCount());
+        assertTrue(metrics.getPhaseTime(RequestMetrics.Phase.ENCODING,
+                TimeUnit.NANOSECONDS) > 0);
+        assertEquals(0, metrics.getPhaseTime(RequestMetrics.Phase.WRITE,
+                TimeUnit.NANOSECONDS));
+    }
+
+    private static long countAttachChanges(JsonObject response) {
+        return JsonUtils.<JsonObject> stream(response.getArray("changes"))
+                .filter(change -> JsonConstants.CHANGE_TYPE_ATTACH
+                        .equals(change.getString(JsonConstants.CHANGE_TYPE)))
+                .count();
+    }
+
     @Test
     public void testComponentInterfaceDependencies() throws Exception {
         UI ui = initializeUIForDependenciesTest(new TestUI());